@@ -178,7 +178,9 @@ CREATE TABLE `users` (
   `role` enum('ADMIN','CLIENT','TRAINER') NOT NULL,
   `first_name` varchar(255) NOT NULL,
   `last_name` varchar(255) NOT NULL,
-  PRIMARY KEY (`id`)
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `users_login_uindex` (`login`),
+  KEY `users_role_idx` (`role`)
 ) ENGINE=InnoDB AUTO_INCREMENT=64 DEFAULT CHARSET=utf8;
 /*!40101 SET character_set_client = @saved_cs_client */;
 
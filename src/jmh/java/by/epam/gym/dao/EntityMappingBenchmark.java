@@ -0,0 +1,119 @@
+package by.epam.gym.dao;
+
+import by.epam.gym.entities.order.Order;
+import by.epam.gym.entities.order.OrderDurationType;
+import by.epam.gym.entities.user.User;
+import by.epam.gym.exceptions.DAOException;
+import org.h2.tools.SimpleResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of building entities from stub ResultSet and of binding entity's parameters for insert.
+ *
+ * @author Eugene Makarenko
+ * @see AbstractDAOImpl
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EntityMappingBenchmark {
+
+    private static final String DATABASE_URL = "jdbc:h2:mem:mapping;MODE=MySQL;INIT=RUNSCRIPT FROM 'classpath:benchmark-schema.sql'";
+    private static final String INSERT_ORDER_QUERY = "INSERT INTO orders (client_id, purchase_date, end_date, duration, is_personal_trainer_need, price, is_payed, feedback)VALUES(?,?,?,?,?,?,?,?)";
+
+    private OrderDAOImpl orderDAO;
+    private UserDAOImpl userDAO;
+    private SimpleResultSet orderResultSet;
+    private SimpleResultSet userResultSet;
+    private Order order;
+    private Connection connection;
+    private PreparedStatement insertOrderStatement;
+
+    @Setup
+    public void setUp() throws SQLException {
+        orderDAO = new OrderDAOImpl(null);
+        userDAO = new UserDAOImpl(null);
+
+        orderResultSet = new SimpleResultSet();
+        orderResultSet.setAutoClose(false);
+        orderResultSet.addColumn("id", Types.INTEGER, 11, 0);
+        orderResultSet.addColumn("client_id", Types.INTEGER, 11, 0);
+        orderResultSet.addColumn("purchase_date", Types.DATE, 0, 0);
+        orderResultSet.addColumn("end_date", Types.DATE, 0, 0);
+        orderResultSet.addColumn("duration", Types.VARCHAR, 16, 0);
+        orderResultSet.addColumn("is_personal_trainer_need", Types.TINYINT, 4, 0);
+        orderResultSet.addColumn("price", Types.DECIMAL, 10, 0);
+        orderResultSet.addColumn("is_payed", Types.TINYINT, 4, 0);
+        orderResultSet.addColumn("feedback", Types.VARCHAR, 255, 0);
+        orderResultSet.addRow(1, 1, Date.valueOf("2025-01-01"), Date.valueOf("2025-02-01"), "MONTH", 0,
+                new BigDecimal(30), 1, "Good.");
+
+        userResultSet = new SimpleResultSet();
+        userResultSet.setAutoClose(false);
+        userResultSet.addColumn("id", Types.INTEGER, 11, 0);
+        userResultSet.addColumn("login", Types.VARCHAR, 255, 0);
+        userResultSet.addColumn("password", Types.CHAR, 64, 0);
+        userResultSet.addColumn("role", Types.VARCHAR, 16, 0);
+        userResultSet.addColumn("first_name", Types.VARCHAR, 255, 0);
+        userResultSet.addColumn("last_name", Types.VARCHAR, 255, 0);
+        userResultSet.addRow(1, "client", "password", "CLIENT", "Ivan", "Ivanov");
+
+        order = new Order();
+        order.setClientId(1);
+        order.setPurchaseDate(Date.valueOf("2025-01-01"));
+        order.setEndDate(Date.valueOf("2025-02-01"));
+        order.setDuration(OrderDurationType.MONTH);
+        order.setIsPersonalTrainerNeed(0);
+        order.setPrice(new BigDecimal(30));
+        order.setIsPayed(1);
+
+        connection = DriverManager.getConnection(DATABASE_URL);
+        insertOrderStatement = connection.prepareStatement(INSERT_ORDER_QUERY);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        insertOrderStatement.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public Order buildOrder() throws DAOException, SQLException {
+        orderResultSet.beforeFirst();
+        orderResultSet.next();
+
+        return orderDAO.buildEntity(orderResultSet);
+    }
+
+    @Benchmark
+    public User buildUser() throws DAOException, SQLException {
+        userResultSet.beforeFirst();
+        userResultSet.next();
+
+        return userDAO.buildEntity(userResultSet);
+    }
+
+    @Benchmark
+    public ParameterBinder bindOrderParameters() throws SQLException {
+        ParameterBinder binder = new ParameterBinder(insertOrderStatement);
+        orderDAO.bindEntityParameters(binder, order);
+
+        return binder;
+    }
+}
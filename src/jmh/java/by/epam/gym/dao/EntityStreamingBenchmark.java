@@ -0,0 +1,119 @@
+package by.epam.gym.dao;
+
+import by.epam.gym.entities.order.Order;
+import by.epam.gym.exceptions.DAOException;
+import org.h2.tools.SimpleResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of reading all client's orders into List and of streaming them one by one to handler.
+ * Both benchmarks read the same stub result set, that is returned by stub connection, because H2 doesn't accept
+ * fetch size, that makes MySQL driver stream rows. Allocation per operation is shown with "-prof gc".
+ *
+ * @author Eugene Makarenko
+ * @see AbstractDAOImpl
+ * @see EntityHandler
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EntityStreamingBenchmark {
+
+    private static final int CLIENT_ID = 1;
+    private static final int ORDERS_COUNT = 1000;
+
+    private SimpleResultSet orderResultSet;
+    private OrderDAOImpl orderDAO;
+    private CountingOrderHandler orderHandler;
+
+    @Setup
+    public void setUp() {
+        orderResultSet = new SimpleResultSet();
+        orderResultSet.setAutoClose(false);
+        orderResultSet.addColumn("id", Types.INTEGER, 11, 0);
+        orderResultSet.addColumn("client_id", Types.INTEGER, 11, 0);
+        orderResultSet.addColumn("purchase_date", Types.DATE, 0, 0);
+        orderResultSet.addColumn("end_date", Types.DATE, 0, 0);
+        orderResultSet.addColumn("duration", Types.VARCHAR, 16, 0);
+        orderResultSet.addColumn("is_personal_trainer_need", Types.TINYINT, 4, 0);
+        orderResultSet.addColumn("price", Types.DECIMAL, 10, 0);
+        orderResultSet.addColumn("is_payed", Types.TINYINT, 4, 0);
+        orderResultSet.addColumn("feedback", Types.VARCHAR, 255, 0);
+        for (int orderId = 1; orderId <= ORDERS_COUNT; orderId++) {
+            orderResultSet.addRow(orderId, CLIENT_ID, Date.valueOf("2025-01-01"), Date.valueOf("2025-02-01"), "MONTH", 0,
+                    new BigDecimal(30), 1, "Good.");
+        }
+
+        PreparedStatement preparedStatement = createStub(PreparedStatement.class, "executeQuery", orderResultSet);
+        Connection connection = createStub(Connection.class, "prepareStatement", preparedStatement);
+        orderDAO = new OrderDAOImpl(connection);
+        orderHandler = new CountingOrderHandler();
+    }
+
+    @Benchmark
+    public int selectClientOrders() throws DAOException, SQLException {
+        orderResultSet.beforeFirst();
+        List<Order> orders = orderDAO.selectClientOrders(CLIENT_ID);
+
+        return orders.size();
+    }
+
+    @Benchmark
+    public int streamClientOrders() throws DAOException, SQLException {
+        orderResultSet.beforeFirst();
+        orderHandler.handledOrdersCount = 0;
+        orderDAO.selectClientOrders(CLIENT_ID, orderHandler);
+
+        return orderHandler.handledOrdersCount;
+    }
+
+    /**
+     * Creates stub of interface, that returns given values from methods with given names and null otherwise.
+     */
+    private static <T> T createStub(Class<T> type, final Object... methodNamesAndValues) {
+        InvocationHandler handler = new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] arguments) {
+                for (int index = 0; index < methodNamesAndValues.length; index += 2) {
+                    if (method.getName().equals(methodNamesAndValues[index])) {
+                        return methodNamesAndValues[index + 1];
+                    }
+                }
+
+                return null;
+            }
+        };
+
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static class CountingOrderHandler implements EntityHandler<Order> {
+
+        private int handledOrdersCount;
+
+        @Override
+        public boolean handle(Order order) {
+            handledOrdersCount++;
+
+            return true;
+        }
+    }
+}
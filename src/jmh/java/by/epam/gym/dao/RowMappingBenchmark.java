@@ -0,0 +1,107 @@
+package by.epam.gym.dao;
+
+import by.epam.gym.entities.order.Order;
+import by.epam.gym.entities.order.OrderDurationType;
+import by.epam.gym.exceptions.DAOException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of building orders from 100000 rows result set by column labels and by resolved column indexes.
+ * Both benchmarks execute the same query, so difference of results is the cost of label lookup.
+ *
+ * @author Eugene Makarenko
+ * @see ColumnIndexResolver
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RowMappingBenchmark {
+
+    private static final String DATABASE_URL = "jdbc:h2:mem:rows;MODE=MySQL;DB_CLOSE_DELAY=-1;INIT=RUNSCRIPT FROM 'classpath:benchmark-schema.sql'";
+    private static final String DELETE_ORDERS_QUERY = "DELETE FROM orders";
+    private static final String INSERT_ORDER_QUERY = "INSERT INTO orders (client_id, purchase_date, end_date, duration, is_personal_trainer_need, price, is_payed, feedback) VALUES(?,'2025-01-01','2025-02-01','MONTH',0,30,1,NULL)";
+    private static final String SELECT_ALL_ORDERS_QUERY = "SELECT * FROM orders";
+
+    private static final int ROWS_COUNT = 100_000;
+    private static final int CLIENTS_COUNT = 1_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    private Connection connection;
+    private OrderDAOImpl orderDAO;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(DATABASE_URL);
+        orderDAO = new OrderDAOImpl(connection);
+
+        try (Statement statement = connection.createStatement();
+             PreparedStatement preparedStatement = connection.prepareStatement(INSERT_ORDER_QUERY)) {
+            statement.executeUpdate(DELETE_ORDERS_QUERY);
+
+            for (int rowIndex = 0; rowIndex < ROWS_COUNT; rowIndex++) {
+                preparedStatement.setInt(1, rowIndex % CLIENTS_COUNT);
+                preparedStatement.addBatch();
+
+                if ((rowIndex + 1) % BATCH_SIZE == 0) {
+                    preparedStatement.executeBatch();
+                }
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Order> mapByLabel() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            ResultSet resultSet = statement.executeQuery(SELECT_ALL_ORDERS_QUERY);
+            List<Order> orders = new ArrayList<>();
+
+            while (resultSet.next()) {
+                Order order = new Order();
+                order.setId(resultSet.getInt("id"));
+                order.setClientId(resultSet.getInt("client_id"));
+                order.setPurchaseDate(resultSet.getDate("purchase_date"));
+                order.setEndDate(resultSet.getDate("end_date"));
+                order.setDuration(OrderDurationType.valueOf(resultSet.getString("duration")));
+                order.setIsPersonalTrainerNeed(resultSet.getInt("is_personal_trainer_need"));
+                order.setPrice(resultSet.getBigDecimal("price"));
+                order.setIsPayed(resultSet.getInt("is_payed"));
+                order.setFeedback(resultSet.getString("feedback"));
+
+                orders.add(order);
+            }
+
+            return orders;
+        }
+    }
+
+    @Benchmark
+    public List<Order> mapByIndex() throws SQLException, DAOException {
+        try (Statement statement = connection.createStatement()) {
+            ResultSet resultSet = statement.executeQuery(SELECT_ALL_ORDERS_QUERY);
+
+            return orderDAO.buildEntities(resultSet);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package by.epam.gym.filters;
+
+import by.epam.gym.entities.user.User;
+import by.epam.gym.entities.user.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static by.epam.gym.commands.ActionCommand.USER_ATTRIBUTE;
+
+/**
+ * Benchmark of page security filter, that is invoked for every requested JSP, and of regular expressions
+ * it used before. Both benchmarks read page path and user through the same stub request and session.
+ * Allocation per operation is shown with "-prof gc".
+ * Response is used by filter only for redirect, that isn't made for allowed page, so there is no response stub:
+ * proxy of HttpServletResponse can't be created with API jar, that has no resources for Cookie class.
+ *
+ * @author Eugene Makarenko
+ * @see PageSecurityFilter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PageSecurityBenchmark {
+
+    private static final String COMMON_PAGE_PATH_PATTERN = ".*/jsp/common/.*.jsp*";
+    private static final String SPECIAL_PAGE_PATH_PATTERN = ".*/jsp/special/.*.jsp*";
+    private static final String ADMIN_PAGE_PATH_PATTERN = ".*/jsp/admin/.*.jsp";
+
+    private static final String PAGE_PATH = "/jsp/admin/show_all_clients.jsp";
+
+    private final PageSecurityFilter pageSecurityFilter = new PageSecurityFilter();
+
+    private HttpServletRequest request;
+    private CountingFilterChain filterChain;
+
+    @Setup
+    public void setUp() {
+        User user = new User();
+        user.setUserRole(UserRole.ADMIN);
+
+        HttpSession session = createStub(HttpSession.class, "getAttribute", user);
+        request = createStub(HttpServletRequest.class, "getServletPath", PAGE_PATH, "getSession", session);
+        filterChain = new CountingFilterChain();
+    }
+
+    @Benchmark
+    public int filterPage() throws IOException, ServletException {
+        pageSecurityFilter.doFilter(request, null, filterChain);
+
+        return filterChain.passedRequestsCount;
+    }
+
+    @Benchmark
+    public int filterPageByRegex() throws IOException, ServletException {
+        String pagePath = request.getServletPath();
+        if (Pattern.compile(COMMON_PAGE_PATH_PATTERN).matcher(pagePath).matches()) {
+            filterChain.doFilter(request, null);
+        } else {
+            User user = (User) request.getSession().getAttribute(USER_ATTRIBUTE);
+            boolean isUserRightRole = user.getUserRole() == UserRole.ADMIN
+                    && Pattern.compile(ADMIN_PAGE_PATH_PATTERN).matcher(pagePath).matches();
+            boolean isSpecialJsp = Pattern.compile(SPECIAL_PAGE_PATH_PATTERN).matcher(pagePath).matches();
+
+            if (isUserRightRole || isSpecialJsp) {
+                filterChain.doFilter(request, null);
+            }
+        }
+
+        return filterChain.passedRequestsCount;
+    }
+
+    /**
+     * Creates stub of interface, that returns given values from methods with given names and null otherwise.
+     */
+    private static <T> T createStub(Class<T> type, final Object... methodNamesAndValues) {
+        InvocationHandler handler = new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] arguments) {
+                for (int index = 0; index < methodNamesAndValues.length; index += 2) {
+                    if (method.getName().equals(methodNamesAndValues[index])) {
+                        return methodNamesAndValues[index + 1];
+                    }
+                }
+
+                return null;
+            }
+        };
+
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static class CountingFilterChain implements FilterChain {
+
+        private int passedRequestsCount;
+
+        @Override
+        public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse) {
+            passedRequestsCount++;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package by.epam.gym.pool;
+
+import by.epam.gym.exceptions.ConnectionPoolException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.sql.Connection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of borrow and return of connection under contention of different count of threads.
+ * Pool size is taken from benchmark database.properties, it has 8 connections, so 16 and 64 threads wait
+ * for connections, while 1 and 4 threads don't.
+ *
+ * @author Eugene Makarenko
+ * @see ConnectionPool
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConnectionPoolBenchmark {
+
+    private ConnectionPool connectionPool;
+
+    @Setup
+    public void setUp() {
+        connectionPool = ConnectionPool.getInstance();
+    }
+
+    @TearDown
+    public void tearDown() {
+        connectionPool.closePool();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Connection borrowAndReturnWith1Thread() throws ConnectionPoolException {
+        return borrowAndReturn();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Connection borrowAndReturnWith4Threads() throws ConnectionPoolException {
+        return borrowAndReturn();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Connection borrowAndReturnWith16Threads() throws ConnectionPoolException {
+        return borrowAndReturn();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Connection borrowAndReturnWith64Threads() throws ConnectionPoolException {
+        return borrowAndReturn();
+    }
+
+    private Connection borrowAndReturn() throws ConnectionPoolException {
+        Connection connection = connectionPool.getConnection();
+        connectionPool.returnConnection(connection);
+
+        return connection;
+    }
+}
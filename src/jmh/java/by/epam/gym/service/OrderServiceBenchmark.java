@@ -0,0 +1,51 @@
+package by.epam.gym.service;
+
+import by.epam.gym.entities.order.Order;
+import by.epam.gym.exceptions.ServiceException;
+import by.epam.gym.pool.ConnectionPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of order preparation against embedded H2 database in MySQL mode.
+ * Schema and data are created by benchmark-schema.sql, client has six orders, so discount is calculated.
+ *
+ * @author Eugene Makarenko
+ * @see OrderService
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderServiceBenchmark {
+
+    private static final int CLIENT_ID = 1;
+    private static final String PURCHASE_DATE = "2026-01-01";
+    private static final String DURATION = "MONTH";
+    private static final String IS_PERSONAL_TRAINER_NEED = "1";
+
+    private OrderService orderService;
+
+    @Setup
+    public void setUp() {
+        orderService = new OrderService();
+    }
+
+    @TearDown
+    public void tearDown() {
+        ConnectionPool connectionPool = ConnectionPool.getInstance();
+        connectionPool.closePool();
+    }
+
+    @Benchmark
+    public Order prepareOrder() throws ServiceException {
+        return orderService.prepareOrder(CLIENT_ID, PURCHASE_DATE, DURATION, IS_PERSONAL_TRAINER_NEED);
+    }
+}
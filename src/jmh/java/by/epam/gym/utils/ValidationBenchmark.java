@@ -0,0 +1,89 @@
+package by.epam.gym.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmark of validation of request parameters by validators and by regular expressions they used before.
+ * Allocation per operation is shown with "-prof gc".
+ *
+ * @author Eugene Makarenko
+ * @see TextMatcher
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidationBenchmark {
+
+    private static final String LOGIN_PATTERN = "([a-zA-Z0-9_]+){6,}";
+    private static final String PASSWORD_PATTERN = "([a-zA-Z0-9_]+){4,}";
+    private static final String NAME_PATTERN = "[A-Za-zА-Яа-я]+";
+    private static final String FULL_NAME_PATTERN = "[A-Za-zА-Яа-я]+\\s[A-Za-zА-Яа-я]+";
+    private static final String EXERCISE_NAME_PATTERN = "[A-Za-zА-Яа-я0-9., \\-]*";
+    private static final String TAG_PATTERN = ".*<.*>+.*";
+
+    private final UserDataValidator userDataValidator = new UserDataValidator();
+    private final ExerciseDataValidator exerciseDataValidator = new ExerciseDataValidator();
+    private final OrderDataValidator orderDataValidator = new OrderDataValidator();
+
+    private String login = "client_login";
+    private String password = "password_1";
+    private String firstName = "Иван";
+    private String lastName = "Ivanov";
+    private String fullName = "Иван Ivanov";
+    private String exerciseName = "Гак-приседания, 3 подхода.";
+    private String exerciseLevel = "PRO";
+    private String description = "Sit down and stand up slowly, keep your back straight during all exercise.";
+    private String feedback = "Good trainers and equipment, but locker rooms are too small.";
+
+    @Benchmark
+    public boolean checkUserData() {
+        return userDataValidator.checkData(login, password, firstName, lastName);
+    }
+
+    @Benchmark
+    public boolean checkUserDataByRegex() {
+        return Pattern.compile(LOGIN_PATTERN).matcher(login).matches()
+                && Pattern.compile(PASSWORD_PATTERN).matcher(password).matches()
+                && Pattern.compile(NAME_PATTERN).matcher(firstName).matches()
+                && Pattern.compile(NAME_PATTERN).matcher(lastName).matches();
+    }
+
+    @Benchmark
+    public boolean checkFullName() {
+        return userDataValidator.isNameFull(fullName);
+    }
+
+    @Benchmark
+    public boolean checkFullNameByRegex() {
+        return Pattern.compile(FULL_NAME_PATTERN).matcher(fullName).matches();
+    }
+
+    @Benchmark
+    public boolean checkExerciseData() {
+        return exerciseDataValidator.checkData(exerciseName, exerciseLevel, description);
+    }
+
+    @Benchmark
+    public boolean checkExerciseDataByRegex() {
+        return Pattern.compile(EXERCISE_NAME_PATTERN).matcher(exerciseName).matches()
+                && !Pattern.compile(TAG_PATTERN).matcher(description).matches();
+    }
+
+    @Benchmark
+    public boolean checkFeedback() {
+        return orderDataValidator.checkFeedback(feedback);
+    }
+
+    @Benchmark
+    public boolean checkFeedbackByRegex() {
+        return !Pattern.compile(TAG_PATTERN).matcher(feedback).matches();
+    }
+}
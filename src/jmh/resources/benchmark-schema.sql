@@ -0,0 +1,43 @@
+CREATE TABLE IF NOT EXISTS users (
+  id INT NOT NULL AUTO_INCREMENT,
+  login VARCHAR(255) NOT NULL,
+  password CHAR(64) NOT NULL,
+  role VARCHAR(16) NOT NULL,
+  first_name VARCHAR(255) NOT NULL,
+  last_name VARCHAR(255) NOT NULL,
+  PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS orders (
+  id INT NOT NULL AUTO_INCREMENT,
+  client_id INT DEFAULT 0,
+  purchase_date DATE NOT NULL,
+  end_date DATE NOT NULL,
+  duration VARCHAR(16) NOT NULL,
+  is_personal_trainer_need TINYINT DEFAULT NULL,
+  price DECIMAL(10,0) NOT NULL,
+  is_payed TINYINT NOT NULL DEFAULT 0,
+  feedback TEXT,
+  PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS buyer__fk_idx ON orders (client_id);
+
+CREATE TABLE IF NOT EXISTS prices (
+  order_type VARCHAR(32) NOT NULL,
+  price DECIMAL(10,0) NOT NULL,
+  PRIMARY KEY (order_type)
+);
+
+MERGE INTO prices KEY (order_type) VALUES ('MONTH_WITH_TRAINER', 50), ('MONTH', 30), ('YEAR_WITH_TRAINER', 540),
+  ('YEAR', 300), ('HALF_YEAR_WITH_TRAINER', 280), ('HALF_YEAR', 160);
+
+MERGE INTO users KEY (id) VALUES (1, 'client', 'password', 'CLIENT', 'Ivan', 'Ivanov');
+
+MERGE INTO orders KEY (id) VALUES
+  (1, 1, '2025-01-01', '2025-02-01', 'MONTH', 0, 30, 1, NULL),
+  (2, 1, '2025-02-01', '2025-03-01', 'MONTH', 0, 30, 1, NULL),
+  (3, 1, '2025-03-01', '2025-04-01', 'MONTH', 1, 50, 1, NULL),
+  (4, 1, '2025-04-01', '2025-05-01', 'MONTH', 0, 30, 1, NULL),
+  (5, 1, '2025-05-01', '2025-06-01', 'MONTH', 0, 30, 1, 'Good.'),
+  (6, 1, '2025-06-01', '2025-12-01', 'HALF_YEAR', 0, 160, 1, NULL);
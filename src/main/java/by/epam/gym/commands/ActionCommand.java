@@ -18,6 +18,8 @@ public interface ActionCommand {
     String FIRST_NAME_PARAMETER = "first_name";
     String LAST_NAME_PARAMETER = "last_name";
     String PAGE_PARAMETER = "page";
+    String AFTER_ID_PARAMETER = "after_id";
+    String BEFORE_ID_PARAMETER = "before_id";
     String CLIENT_ID_PARAMETER = "client_id";
     String FEEDBACK_PARAMETER = "feedback";
     String PURCHASE_DATE_PARAMETER = "start_date";
@@ -45,12 +47,15 @@ public interface ActionCommand {
     String LIST_ATTRIBUTE = "list";
     String NUMBER_OF_PAGE_ATTRIBUTE = "numberOfPages";
     String CURRENT_PAGE_INDEX_ATTRIBUTE = "pageIndex";
+    String FIRST_ID_ATTRIBUTE = "firstId";
+    String LAST_ID_ATTRIBUTE = "lastId";
+    String DISCOUNTS_ATTRIBUTE = "discounts";
+    String COMMAND_TYPE_ATTRIBUTE = "commandType";
     String ORDER_ID_ATTRIBUTE = "orderId";
     String ORDER_ATTRIBUTE = "order";
     String TRAINING_PROGRAM_ATTRIBUTE = "trainingProgram";
-    String DAYS_AND_EXERCISES_ATTRIBUTE = "daysAndExercises";
+    String TRAINING_PROGRAM_DRAFT_ATTRIBUTE = "trainingProgramDraft";
     String NAME_ATTRIBUTE = "name";
-    String EXERCISES_ATTRIBUTE = "exercises";
     String IS_RECORD_INSERTED = "recordInserted";
     String EXERCISE_ATTRIBUTE = "exercise";
 
@@ -4,7 +4,15 @@ import by.epam.gym.commands.common.EmptyCommand;
 import by.epam.gym.utils.MessageManager;
 import org.apache.log4j.Logger;
 
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 import javax.servlet.http.HttpServletRequest;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static by.epam.gym.commands.ActionCommand.COMMAND_PARAMETER;
 import static by.epam.gym.commands.ActionCommand.MESSAGE_ATTRIBUTE;
@@ -12,14 +20,41 @@ import static by.epam.gym.utils.MessageManager.COMMAND_ERROR_MESSAGE_KEY;
 
 /**
  * Factory class for creation commands.
+ * <p>
+ * Command type is found in routing table of command types, that is built once. Names are looked up as they
+ * are sent by pages, so known command is found without string conversion and unknown one without exception.
+ * Requests of every command are counted and available through JMX. Empty and unknown commands are only
+ * counted and logged at debug level, so requests with bad command cost no more than known ones.
  *
  * @author Eugene Makarenko
  * @see ActionCommand
+ * @see CommandType
  */
-public class CommandFactory {
+public class CommandFactory implements CommandFactoryMBean {
 
     private static final Logger LOGGER = Logger.getLogger(CommandFactory.class);
 
+    private static final String OBJECT_NAME = "by.epam.gym:type=CommandFactory";
+    private static final String MESSAGE_SEPARATOR = " ";
+
+    private final ActionCommand emptyCommand;
+    private final Map<CommandType, AtomicLong> commandHits;
+    private final AtomicLong unknownCommandsCount;
+
+    /**
+     * Instantiates a new CommandFactory.
+     */
+    public CommandFactory() {
+        Map<CommandType, AtomicLong> hits = new EnumMap<>(CommandType.class);
+        for (CommandType commandType : CommandType.values()) {
+            hits.put(commandType, new AtomicLong());
+        }
+
+        emptyCommand = new EmptyCommand();
+        commandHits = Collections.unmodifiableMap(hits);
+        unknownCommandsCount = new AtomicLong();
+    }
+
     /**
      * This method define commands and return it's instance.
      *
@@ -27,23 +62,80 @@ public class CommandFactory {
      * @return the defined commands.
      */
     public ActionCommand defineCommand(HttpServletRequest request) {
-        ActionCommand currentCommand = new EmptyCommand();
-
         String action = request.getParameter(COMMAND_PARAMETER);
         if (action == null || action.isEmpty()) {
-            LOGGER.info(String.format("Command - %s, is empty.", action));
-            return currentCommand;
+            unknownCommandsCount.incrementAndGet();
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(String.format("Command - %s, is empty.", action));
+            }
+            return emptyCommand;
         }
-        try {
-            String commandTypeValue = action.toUpperCase();
-            CommandType currentType = CommandType.valueOf(commandTypeValue);
-            currentCommand = currentType.getCurrentCommand();
-        } catch (IllegalArgumentException exception) {
-            LOGGER.warn(String.format("Command - %s, cause exception.", action) + exception);
-            String message = String.format("%s %s", action, MessageManager.getProperty(COMMAND_ERROR_MESSAGE_KEY));
+
+        CommandType currentType = CommandType.defineCommandType(request);
+        if (currentType == null) {
+            unknownCommandsCount.incrementAndGet();
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(String.format("Command - %s, is unknown.", action));
+            }
+            String message = action + MESSAGE_SEPARATOR + MessageManager.getProperty(COMMAND_ERROR_MESSAGE_KEY);
             request.setAttribute(MESSAGE_ATTRIBUTE, message);
+            return emptyCommand;
+        }
+
+        commandHits.get(currentType).incrementAndGet();
+
+        return currentType.getCurrentCommand();
+    }
+
+    @Override
+    public String getCommandHits() {
+        StringBuilder hits = new StringBuilder();
+        for (Map.Entry<CommandType, AtomicLong> entry : commandHits.entrySet()) {
+            long count = entry.getValue().get();
+            if (count > 0) {
+                if (hits.length() > 0) {
+                    hits.append(", ");
+                }
+                hits.append(entry.getKey().name()).append('=').append(count);
+            }
         }
-        return currentCommand;
+
+        return hits.toString();
+    }
+
+    @Override
+    public long getUnknownCommandsCount() {
+        return unknownCommandsCount.get();
     }
 
+    /**
+     * This method registers command statistics in platform MBean server.
+     */
+    public void register() {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+            mBeanServer.registerMBean(this, objectName);
+        } catch (JMException exception) {
+            LOGGER.warn("Command factory wasn't registered in MBean server.", exception);
+        }
+    }
+
+    /**
+     * This method unregisters command statistics from platform MBean server.
+     */
+    public void unregister() {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+        } catch (JMException exception) {
+            LOGGER.warn("Command factory wasn't unregistered from MBean server.", exception);
+        }
+    }
 }
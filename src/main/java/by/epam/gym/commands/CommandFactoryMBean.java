@@ -0,0 +1,24 @@
+package by.epam.gym.commands;
+
+/**
+ * Management interface of command factory, that is registered in platform MBean server.
+ *
+ * @author Eugene Makarenko
+ * @see CommandFactory
+ */
+public interface CommandFactoryMBean {
+
+    /**
+     * Gets counts of requests of every command.
+     *
+     * @return the counts by command names.
+     */
+    String getCommandHits();
+
+    /**
+     * Gets count of requests with empty or unknown command.
+     *
+     * @return the count of requests.
+     */
+    long getUnknownCommandsCount();
+}
@@ -10,9 +10,26 @@ import by.epam.gym.commands.common.LogoutCommand;
 import by.epam.gym.commands.common.RegisterCommand;
 import by.epam.gym.commands.special.*;
 import by.epam.gym.commands.trainer.*;
+import by.epam.gym.entities.user.UserRole;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static by.epam.gym.commands.ActionCommand.COMMAND_PARAMETER;
+import static by.epam.gym.commands.ActionCommand.COMMAND_TYPE_ATTRIBUTE;
 
 /**
  * Types of commands.
+ * <p>
+ * Command's name prefix defines roles that may invoke it: common commands are available for everybody,
+ * special commands for every logged in user, other commands for role of the prefix only.
+ * Command with name without known prefix is available for nobody.
  *
  * @author Eugene Makarenko
  * @see ActionCommand
@@ -170,6 +187,51 @@ public enum CommandType {
         }
     };
 
+    private static final String COMMON_COMMAND_PREFIX = "COMMON_";
+    private static final String SPECIAL_COMMAND_PREFIX = "SPECIAL_";
+
+    /**
+     * Routing table from command name, as it is sent by pages and in upper case, to command type.
+     */
+    private static final Map<String, CommandType> commandTypes;
+
+    /**
+     * Roles of commands, that are available for guests and every role.
+     */
+    private static final Set<UserRole> GUEST_ROLES = Collections.emptySet();
+
+    /**
+     * Authorization table from command type to roles that may invoke it. Commands that are available for guests
+     * have guest roles, commands that aren't in table are denied.
+     */
+    private static final Map<CommandType, Set<UserRole>> allowedRoles;
+
+    static {
+        Map<String, CommandType> types = new HashMap<>();
+        Map<CommandType, Set<UserRole>> roles = new EnumMap<>(CommandType.class);
+
+        for (CommandType commandType : values()) {
+            String name = commandType.name();
+            types.put(name, commandType);
+            types.put(name.toLowerCase(Locale.ENGLISH), commandType);
+
+            if (name.startsWith(COMMON_COMMAND_PREFIX)) {
+                roles.put(commandType, GUEST_ROLES);
+            } else if (name.startsWith(SPECIAL_COMMAND_PREFIX)) {
+                roles.put(commandType, Collections.unmodifiableSet(EnumSet.allOf(UserRole.class)));
+            } else {
+                for (UserRole userRole : UserRole.values()) {
+                    if (name.startsWith(userRole.name())) {
+                        roles.put(commandType, Collections.unmodifiableSet(EnumSet.of(userRole)));
+                    }
+                }
+            }
+        }
+
+        commandTypes = Collections.unmodifiableMap(types);
+        allowedRoles = Collections.unmodifiableMap(roles);
+    }
+
     /**
      * Current command.
      */
@@ -183,4 +245,70 @@ public enum CommandType {
     public ActionCommand getCurrentCommand() {
         return command;
     }
+
+    /**
+     * This method checks that command may be invoked without login.
+     *
+     * @return true if command is available for guests and false otherwise.
+     */
+    public boolean isGuestAllowed() {
+        return allowedRoles.get(this) == GUEST_ROLES;
+    }
+
+    /**
+     * This method checks that user with role may invoke command.
+     *
+     * @param userRole the user's role.
+     * @return true if command is available for role and false otherwise.
+     */
+    public boolean isAllowedFor(UserRole userRole) {
+        Set<UserRole> roles = allowedRoles.get(this);
+        if (roles == null) {
+            return false;
+        }
+
+        return roles == GUEST_ROLES || roles.contains(userRole);
+    }
+
+    /**
+     * This method finds command type by command name without exception for unknown name.
+     *
+     * @param name the command name.
+     * @return the command type or null if command is unknown.
+     */
+    public static CommandType findByName(String name) {
+        if (name == null || name.isEmpty()) {
+            return null;
+        }
+
+        CommandType commandType = commandTypes.get(name);
+        if (commandType == null) {
+            String upperCaseName = name.toUpperCase(Locale.ENGLISH);
+            commandType = commandTypes.get(upperCaseName);
+        }
+
+        return commandType;
+    }
+
+    /**
+     * This method defines command type of request. Type is defined once per request and shared by filters
+     * and controller through request attribute.
+     *
+     * @param request the HttpServletRequest request.
+     * @return the command type or null if command is empty or unknown.
+     */
+    public static CommandType defineCommandType(HttpServletRequest request) {
+        Object definedType = request.getAttribute(COMMAND_TYPE_ATTRIBUTE);
+        if (definedType != null) {
+            return (CommandType) definedType;
+        }
+
+        String name = request.getParameter(COMMAND_PARAMETER);
+        CommandType commandType = findByName(name);
+        if (commandType != null) {
+            request.setAttribute(COMMAND_TYPE_ATTRIBUTE, commandType);
+        }
+
+        return commandType;
+    }
 }
@@ -9,13 +9,14 @@ import org.apache.log4j.Logger;
 
 import javax.servlet.http.HttpServletRequest;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 
 import static by.epam.gym.commands.Page.SHOW_ALL_CLIENTS_PAGE_PATH;
 
 /**
- * Command to show all clients.
+ * Command to show all clients page by page.
+ * <p>
+ * Pages are selected by id of the last client on previous page or by id of the first client on next page,
+ * so every page costs the same as the first one.
  *
  * @author Eugene Makarenko
  * @see ActionCommand
@@ -28,6 +29,7 @@ public class ShowAllClientsCommand implements ActionCommand {
 
     private static final int MAX_RECORDS_PER_PAGE_COUNT = 10;
     private static final int FIRST_PAGE_INDEX = 1;
+    private static final int NONE_ID = 0;
 
     /**
      * Implementation of command to show all clients.
@@ -46,21 +48,34 @@ public class ShowAllClientsCommand implements ActionCommand {
             if (pageParameterValue != null) {
                 pageIndex = Integer.parseInt(pageParameterValue);
             }
-            int currentOffSet = (pageIndex - 1) * MAX_RECORDS_PER_PAGE_COUNT;
 
             UserService userService = new UserService();
-            Map<List<User>, Integer> clients = userService.findAllClientsByPages(currentOffSet, MAX_RECORDS_PER_PAGE_COUNT);
-            Set<Map.Entry<List<User>, Integer>> entries = clients.entrySet();
-
-            List<User> foundClients = null;
-            Integer numberOfRecords = null;
-
-            for (Map.Entry<List<User>, Integer> entry : entries) {
-                foundClients = entry.getKey();
-                numberOfRecords = entry.getValue();
+            String beforeIdValue = request.getParameter(BEFORE_ID_PARAMETER);
+            String afterIdValue = request.getParameter(AFTER_ID_PARAMETER);
+
+            List<User> foundClients;
+            if (beforeIdValue != null) {
+                int firstSeenId = Integer.parseInt(beforeIdValue);
+                foundClients = userService.findClientsBeforeId(firstSeenId, MAX_RECORDS_PER_PAGE_COUNT);
+            } else if (afterIdValue != null) {
+                int lastSeenId = Integer.parseInt(afterIdValue);
+                foundClients = userService.findClientsAfterId(lastSeenId, MAX_RECORDS_PER_PAGE_COUNT);
+            } else {
+                pageIndex = FIRST_PAGE_INDEX;
+                foundClients = userService.findClientsAfterId(NONE_ID, MAX_RECORDS_PER_PAGE_COUNT);
             }
 
+            int numberOfRecords = userService.getClientsCount();
             int numberOfPages = (int) Math.ceil(numberOfRecords * 1.0 / MAX_RECORDS_PER_PAGE_COUNT);
+            pageIndex = Math.max(FIRST_PAGE_INDEX, Math.min(pageIndex, numberOfPages));
+
+            if (!foundClients.isEmpty()) {
+                User firstClient = foundClients.get(0);
+                User lastClient = foundClients.get(foundClients.size() - 1);
+
+                request.setAttribute(FIRST_ID_ATTRIBUTE, firstClient.getId());
+                request.setAttribute(LAST_ID_ATTRIBUTE, lastClient.getId());
+            }
 
             request.setAttribute(NUMBER_OF_PAGE_ATTRIBUTE, numberOfPages);
             request.setAttribute(CURRENT_PAGE_INDEX_ATTRIBUTE, pageIndex);
@@ -1,6 +1,7 @@
 package by.epam.gym.commands.special;
 
 import by.epam.gym.commands.ActionCommand;
+import by.epam.gym.entities.TrainingProgramDraft;
 import by.epam.gym.entities.exercise.Exercise;
 import by.epam.gym.exceptions.ServiceException;
 import by.epam.gym.service.ExerciseService;
@@ -9,8 +10,6 @@ import org.apache.log4j.Logger;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
-import java.util.List;
-import java.util.TreeMap;
 
 import static by.epam.gym.utils.MessageManager.INVALID_INPUT_DATA_MESSAGE_KEY;
 
@@ -41,9 +40,9 @@ public class AddExerciseToTrainingProgramCommand implements ActionCommand {
             String setsCountValue = request.getParameter(SETS_COUNT_PARAMETER);
             String repeatsCountValue = request.getParameter(REPEATS_COUNT_PARAMETER);
             HttpSession session = request.getSession();
-            TreeMap<Integer, List<Exercise>> daysAndExercises = (TreeMap<Integer, List<Exercise>>) session.getAttribute(DAYS_AND_EXERCISES_ATTRIBUTE);
+            TrainingProgramDraft trainingProgramDraft = (TrainingProgramDraft) session.getAttribute(TRAINING_PROGRAM_DRAFT_ATTRIBUTE);
             ExerciseService exerciseService = new ExerciseService();
-            boolean isOperationSuccessful = exerciseService.addExerciseInTrainingProgram(exerciseIdValue, dayNumberValue, setsCountValue, repeatsCountValue, daysAndExercises);
+            boolean isOperationSuccessful = exerciseService.addExerciseInTrainingProgram(exerciseIdValue, dayNumberValue, setsCountValue, repeatsCountValue, trainingProgramDraft);
             if (!isOperationSuccessful) {
                 return new Page(Page.EDIT_TRAINING_PROGRAM_PAGE_PATH, false, INVALID_INPUT_DATA_MESSAGE_KEY);
             }
@@ -1,17 +1,16 @@
 package by.epam.gym.commands.special;
 
 import by.epam.gym.commands.ActionCommand;
-import by.epam.gym.entities.exercise.Exercise;
+import by.epam.gym.entities.TrainingProgramDraft;
 import by.epam.gym.service.TrainingProgramService;
 import by.epam.gym.commands.Page;
 import by.epam.gym.utils.TrainingProgramDataValidator;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
-import java.util.List;
-import java.util.TreeMap;
 
 import static by.epam.gym.utils.MessageManager.DAY_CAN_NOT_BE_DELETED_MESSAGE_KEY;
+import static by.epam.gym.utils.MessageManager.INVALID_INPUT_DATA_MESSAGE_KEY;
 
 /**
  * Command to delete day from training program.
@@ -32,17 +31,20 @@ public class DeleteDayFromTrainingProgramCommand implements ActionCommand {
     public Page execute(HttpServletRequest request) {
         String dayNumberValue = request.getParameter(DAY_NUMBER_PARAMETER);
         HttpSession session = request.getSession();
-        TreeMap<Integer, List<Exercise>> daysAndExercises = (TreeMap<Integer, List<Exercise>>) session.getAttribute(DAYS_AND_EXERCISES_ATTRIBUTE);
+        TrainingProgramDraft trainingProgramDraft = (TrainingProgramDraft) session.getAttribute(TRAINING_PROGRAM_DRAFT_ATTRIBUTE);
         TrainingProgramDataValidator trainingProgramDataValidator = new TrainingProgramDataValidator();
-        boolean isDataValid = trainingProgramDataValidator.checkDaysCountForDeleteOperation(daysAndExercises);
+        boolean isDataValid = trainingProgramDataValidator.checkDaysCountForDeleteOperation(trainingProgramDraft.getDaysCount());
         if (!isDataValid) {
             return new Page(Page.EDIT_TRAINING_PROGRAM_PAGE_PATH, false, DAY_CAN_NOT_BE_DELETED_MESSAGE_KEY);
         }
 
         TrainingProgramService trainingProgramService = new TrainingProgramService();
-        TreeMap<Integer, List<Exercise>> changedDaysAndExercises = trainingProgramService.deleteDayFromTrainingProgram(dayNumberValue, daysAndExercises);
+        boolean isOperationSuccessful = trainingProgramService.deleteDayFromTrainingProgram(dayNumberValue, trainingProgramDraft);
+        if (!isOperationSuccessful) {
+            return new Page(Page.EDIT_TRAINING_PROGRAM_PAGE_PATH, false, INVALID_INPUT_DATA_MESSAGE_KEY);
+        }
 
-        session.setAttribute(DAYS_AND_EXERCISES_ATTRIBUTE, changedDaysAndExercises);
+        session.setAttribute(TRAINING_PROGRAM_DRAFT_ATTRIBUTE, trainingProgramDraft);
 
         return new Page(Page.EDIT_TRAINING_PROGRAM_PAGE_PATH, false);
     }
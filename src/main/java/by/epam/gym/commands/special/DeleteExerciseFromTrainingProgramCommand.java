@@ -1,14 +1,12 @@
 package by.epam.gym.commands.special;
 
 import by.epam.gym.commands.ActionCommand;
-import by.epam.gym.entities.exercise.Exercise;
+import by.epam.gym.entities.TrainingProgramDraft;
 import by.epam.gym.service.ExerciseService;
 import by.epam.gym.commands.Page;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
-import java.util.List;
-import java.util.TreeMap;
 
 import static by.epam.gym.commands.Page.EDIT_TRAINING_PROGRAM_PAGE_PATH;
 
@@ -34,9 +32,9 @@ public class DeleteExerciseFromTrainingProgramCommand implements ActionCommand {
         String exerciseIdValue = request.getParameter(EXERCISE_ID_PARAMETER);
         String dayNumberValue = request.getParameter(DAY_NUMBER_PARAMETER);
         HttpSession session = request.getSession();
-        TreeMap<Integer, List<Exercise>> daysAndExercises = (TreeMap<Integer, List<Exercise>>) session.getAttribute(DAYS_AND_EXERCISES_ATTRIBUTE);
+        TrainingProgramDraft trainingProgramDraft = (TrainingProgramDraft) session.getAttribute(TRAINING_PROGRAM_DRAFT_ATTRIBUTE);
         ExerciseService exerciseService = new ExerciseService();
-        exerciseService.deleteExerciseFromTrainingProgram(exerciseIdValue, dayNumberValue, daysAndExercises);
+        exerciseService.deleteExerciseFromTrainingProgram(exerciseIdValue, dayNumberValue, trainingProgramDraft);
 
         return new Page(EDIT_TRAINING_PROGRAM_PAGE_PATH, false);
     }
@@ -1,14 +1,12 @@
 package by.epam.gym.commands.special;
 
 import by.epam.gym.commands.ActionCommand;
-import by.epam.gym.entities.exercise.Exercise;
+import by.epam.gym.entities.TrainingProgramDraft;
 import by.epam.gym.service.ExerciseService;
 import by.epam.gym.commands.Page;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
-import java.util.List;
-import java.util.Map;
 
 import static by.epam.gym.commands.Page.EDIT_TRAINING_PROGRAM_PAGE_PATH;
 import static by.epam.gym.utils.MessageManager.INVALID_INPUT_DATA_MESSAGE_KEY;
@@ -38,10 +36,10 @@ public class EditExerciseInTrainingProgramCommand implements ActionCommand {
         String repeatsCountValue = request.getParameter(REPEATS_COUNT_PARAMETER);
 
         HttpSession session = request.getSession();
-        Map<Integer, List<Exercise>> daysAndExercises = (Map<Integer, List<Exercise>>) session.getAttribute(DAYS_AND_EXERCISES_ATTRIBUTE);
+        TrainingProgramDraft trainingProgramDraft = (TrainingProgramDraft) session.getAttribute(TRAINING_PROGRAM_DRAFT_ATTRIBUTE);
 
         ExerciseService exerciseService = new ExerciseService();
-        boolean isOperationSuccessful = exerciseService.editExercise(exerciseIdValue, dayNumberValue, setsCountValue, repeatsCountValue, daysAndExercises);
+        boolean isOperationSuccessful = exerciseService.editExercise(exerciseIdValue, dayNumberValue, setsCountValue, repeatsCountValue, trainingProgramDraft);
         if (!isOperationSuccessful) {
             return new Page(EDIT_TRAINING_PROGRAM_PAGE_PATH, false, INVALID_INPUT_DATA_MESSAGE_KEY);
         }
@@ -1,15 +1,12 @@
 package by.epam.gym.commands.special;
 
 import by.epam.gym.commands.ActionCommand;
-import by.epam.gym.entities.exercise.Exercise;
 import by.epam.gym.exceptions.ServiceException;
 import by.epam.gym.service.ExerciseService;
 import by.epam.gym.commands.Page;
 import org.apache.log4j.Logger;
 
 import javax.servlet.http.HttpServletRequest;
-import javax.servlet.http.HttpSession;
-import java.util.List;
 
 /**
  * Command to edit training program.
@@ -24,7 +21,8 @@ public class EditTrainingProgramCommand implements ActionCommand {
     private static final Logger LOGGER = Logger.getLogger(EditTrainingProgramCommand.class);
 
     /**
-     * Implementation of commands to edit training program.
+     * Implementation of commands to edit training program. Catalogue of exercises is loaded before edit page
+     * is shown, so exercises of training program are resolved from it.
      *
      * @param request HttpServletRequest object.
      * @return page.
@@ -34,10 +32,7 @@ public class EditTrainingProgramCommand implements ActionCommand {
 
         try {
             ExerciseService exerciseService = new ExerciseService();
-            List<Exercise> exercises = exerciseService.findAllExercisesIdAndName();
-
-            HttpSession session = request.getSession();
-            session.setAttribute(EXERCISES_ATTRIBUTE, exercises);
+            exerciseService.findAllExercisesIdAndName();
 
             return new Page(Page.EDIT_TRAINING_PROGRAM_PAGE_PATH, false);
         } catch (ServiceException exception) {
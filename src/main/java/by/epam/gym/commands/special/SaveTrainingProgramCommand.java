@@ -2,6 +2,7 @@ package by.epam.gym.commands.special;
 
 import by.epam.gym.commands.ActionCommand;
 import by.epam.gym.entities.TrainingProgram;
+import by.epam.gym.entities.TrainingProgramDraft;
 import by.epam.gym.entities.exercise.Exercise;
 import by.epam.gym.exceptions.ServiceException;
 import by.epam.gym.service.ExerciseService;
@@ -41,7 +42,8 @@ public class SaveTrainingProgramCommand implements ActionCommand {
 
         try {
             HttpSession session = request.getSession();
-            TreeMap<Integer, List<Exercise>> daysAndExercises = (TreeMap<Integer, List<Exercise>>) session.getAttribute(DAYS_AND_EXERCISES_ATTRIBUTE);
+            TrainingProgramDraft trainingProgramDraft = (TrainingProgramDraft) session.getAttribute(TRAINING_PROGRAM_DRAFT_ATTRIBUTE);
+            TreeMap<Integer, List<Exercise>> daysAndExercises = trainingProgramDraft.getDaysAndExercises();
             TrainingProgramDataValidator trainingProgramDataValidator = new TrainingProgramDataValidator();
             boolean isDaysAndExercisesCountValid = trainingProgramDataValidator.checkDaysAndExercisesCount(daysAndExercises);
             if (!isDaysAndExercisesCountValid) {
@@ -54,12 +56,11 @@ public class SaveTrainingProgramCommand implements ActionCommand {
             boolean isUpdateSuccessful = trainingProgramService.updateTrainingProgram(trainingProgram);
 
             ExerciseService exerciseService = new ExerciseService();
-            boolean isResultSuccessful = exerciseService.addExercisesToTrainingProgram(trainingProgramId, daysAndExercises, true);
+            boolean isResultSuccessful = exerciseService.saveExercisesOfTrainingProgram(trainingProgramId, daysAndExercises);
             if (!isResultSuccessful || !isUpdateSuccessful) {
                 return new Page(EDIT_TRAINING_PROGRAM_PAGE_PATH, false, TRAINING_PROGRAM_NOT_SAVED_MESSAGE_KEY);
             }
 
-            session.removeAttribute(EXERCISES_ATTRIBUTE);
             session.setAttribute(IS_RECORD_INSERTED, true);
 
             return new Page(DESCRIBE_TRAINING_PROGRAM_PAGE_PATH, false, TRAINING_PROGRAM_SAVED_SUCCESSFUL_MESSAGE_KEY);
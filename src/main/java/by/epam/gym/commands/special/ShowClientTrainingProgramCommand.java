@@ -1,8 +1,7 @@
 package by.epam.gym.commands.special;
 
 import by.epam.gym.commands.ActionCommand;
-import by.epam.gym.entities.TrainingProgram;
-import by.epam.gym.entities.exercise.Exercise;
+import by.epam.gym.entities.TrainingProgramView;
 import by.epam.gym.exceptions.ServiceException;
 import by.epam.gym.service.TrainingProgramService;
 import by.epam.gym.commands.Page;
@@ -10,8 +9,6 @@ import org.apache.log4j.Logger;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
-import java.util.List;
-import java.util.TreeMap;
 
 import static by.epam.gym.commands.Page.DESCRIBE_TRAINING_PROGRAM_PAGE_PATH;
 import static by.epam.gym.utils.MessageManager.INFORMATION_NOT_FOUND_MESSAGE_KEY;
@@ -41,22 +38,16 @@ public class ShowClientTrainingProgramCommand implements ActionCommand {
             String clientIdValue = request.getParameter(CLIENT_ID_PARAMETER);
             int clientId = Integer.parseInt(clientIdValue);
             TrainingProgramService trainingProgramService = new TrainingProgramService();
-            TrainingProgram trainingProgram = trainingProgramService.findTrainingProgramById(clientId);
+            TrainingProgramView trainingProgramView = trainingProgramService.findClientTrainingProgramView(clientId);
 
-            if (trainingProgram == null) {
+            if (trainingProgramView == null) {
                 return new Page(Page.MAIN_PAGE_PATH, false, INFORMATION_NOT_FOUND_MESSAGE_KEY);
             }
 
             HttpSession session = request.getSession();
-            session.setAttribute(TRAINING_PROGRAM_ATTRIBUTE, trainingProgram);
-
-            int trainingProgramId = trainingProgram.getId();
-            String authorName = trainingProgramService.findTrainingProgramAuthorName(trainingProgramId);
-            session.setAttribute(NAME_ATTRIBUTE, authorName);
-
-            TreeMap<Integer, List<Exercise>> daysAndExercises = trainingProgramService.showExercisesFromTrainingProgram(trainingProgramId);
-            session.setAttribute(DAYS_AND_EXERCISES_ATTRIBUTE, daysAndExercises);
-
+            session.setAttribute(TRAINING_PROGRAM_ATTRIBUTE, trainingProgramView.getTrainingProgram());
+            session.setAttribute(NAME_ATTRIBUTE, trainingProgramView.getAuthorName());
+            session.setAttribute(TRAINING_PROGRAM_DRAFT_ATTRIBUTE, trainingProgramView.getTrainingProgramDraft());
 
             return new Page(DESCRIBE_TRAINING_PROGRAM_PAGE_PATH, false);
         } catch (ServiceException exception) {
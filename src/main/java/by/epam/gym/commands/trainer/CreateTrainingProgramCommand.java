@@ -2,10 +2,9 @@ package by.epam.gym.commands.trainer;
 
 import by.epam.gym.commands.ActionCommand;
 import by.epam.gym.entities.TrainingProgram;
-import by.epam.gym.entities.exercise.Exercise;
+import by.epam.gym.entities.TrainingProgramDraft;
 import by.epam.gym.entities.user.User;
 import by.epam.gym.exceptions.ServiceException;
-import by.epam.gym.service.ExerciseService;
 import by.epam.gym.service.TrainingProgramService;
 import by.epam.gym.commands.Page;
 import by.epam.gym.utils.TrainingProgramDataValidator;
@@ -13,8 +12,6 @@ import org.apache.log4j.Logger;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
-import java.util.List;
-import java.util.TreeMap;
 
 import static by.epam.gym.commands.Page.CREATE_TRAINING_PROGRAM_PAGE_PATH;
 import static by.epam.gym.commands.Page.EDIT_TRAINING_PROGRAM_PAGE_PATH;
@@ -60,13 +57,8 @@ public class CreateTrainingProgramCommand implements ActionCommand {
             TrainingProgram trainingProgram = trainingProgramService.createTrainingProgram(authorId, clientIdValue, diet, startDateValue, endDateValue);
             session.setAttribute(TRAINING_PROGRAM_ATTRIBUTE, trainingProgram);
 
-            ExerciseService exerciseService = new ExerciseService();
-            List<Exercise> exercises = exerciseService.findAllExercisesIdAndName();
-            session.setAttribute(EXERCISES_ATTRIBUTE, exercises);
-
-
-            TreeMap<Integer, List<Exercise>> daysAndExercises = trainingProgramService.getDaysAndExerciseFromTrainingProgram(daysCountValue);
-            session.setAttribute(DAYS_AND_EXERCISES_ATTRIBUTE, daysAndExercises);
+            TrainingProgramDraft trainingProgramDraft = trainingProgramService.createTrainingProgramDraft(daysCountValue);
+            session.setAttribute(TRAINING_PROGRAM_DRAFT_ATTRIBUTE, trainingProgramDraft);
 
             return new Page(EDIT_TRAINING_PROGRAM_PAGE_PATH, false);
         } catch (ServiceException exception) {
@@ -2,6 +2,7 @@ package by.epam.gym.commands.trainer;
 
 import by.epam.gym.commands.ActionCommand;
 import by.epam.gym.entities.TrainingProgram;
+import by.epam.gym.entities.TrainingProgramDraft;
 import by.epam.gym.entities.exercise.Exercise;
 import by.epam.gym.exceptions.ServiceException;
 import by.epam.gym.service.ExerciseService;
@@ -42,7 +43,8 @@ public class FinishTrainingProgramCreationCommand implements ActionCommand {
         try {
             HttpSession session = request.getSession();
 
-            TreeMap<Integer, List<Exercise>> daysAndExercises = (TreeMap<Integer, List<Exercise>>) session.getAttribute(DAYS_AND_EXERCISES_ATTRIBUTE);
+            TrainingProgramDraft trainingProgramDraft = (TrainingProgramDraft) session.getAttribute(TRAINING_PROGRAM_DRAFT_ATTRIBUTE);
+            TreeMap<Integer, List<Exercise>> daysAndExercises = trainingProgramDraft.getDaysAndExercises();
             TrainingProgramDataValidator trainingProgramDataValidator = new TrainingProgramDataValidator();
             boolean isDaysAndExercisesCountValid = trainingProgramDataValidator.checkDaysAndExercisesCount(daysAndExercises);
             if (!isDaysAndExercisesCountValid) {
@@ -55,13 +57,12 @@ public class FinishTrainingProgramCreationCommand implements ActionCommand {
             trainingProgram.setId(trainingProgramId);
 
             ExerciseService exerciseService = new ExerciseService();
-            boolean isResultSuccessful = exerciseService.addExercisesToTrainingProgram(trainingProgramId, daysAndExercises, false);
+            boolean isResultSuccessful = exerciseService.addExercisesToTrainingProgram(trainingProgramId, daysAndExercises);
 
             if (!isResultSuccessful) {
                 return new Page(EDIT_TRAINING_PROGRAM_PAGE_PATH, false, TRAINING_PROGRAM_NOT_SAVED_MESSAGE_KEY);
             }
 
-            session.removeAttribute(EXERCISES_ATTRIBUTE);
             session.removeAttribute(LIST_ATTRIBUTE);
             session.setAttribute(IS_RECORD_INSERTED, true);
 
@@ -21,7 +21,13 @@ public abstract class AbstractDAOImpl<T extends Entity> implements DAO<T> {
     public static final String ID_COLUMN_LABEL = "id";
 
     public static final int EMPTY_RESULT = 0;
-    public static final String NULL_PARAMETER = "null";
+
+    private static final int GENERATED_KEY_COLUMN_INDEX = 1;
+
+    /**
+     * Fetch size that makes MySQL driver stream result set row by row instead of reading it whole into memory.
+     */
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
 
     public static final String SELECT_ALL_QUERY_KEY = "SELECT_ALL";
     public static final String SELECT_BY_ID_QUERY_KEY = "SELECT_BY_ID";
@@ -53,21 +59,27 @@ public abstract class AbstractDAOImpl<T extends Entity> implements DAO<T> {
         String sqlQuery = commonQueries.get(SELECT_ALL_QUERY_KEY);
 
         try (Statement statement = connection.createStatement()) {
-
-            List<T> entities = new ArrayList<T>();
-
             ResultSet resultSet = statement.executeQuery(sqlQuery);
-            while (resultSet.next()) {
-                T entity = buildEntity(resultSet);
-                entities.add(entity);
-            }
 
-            return entities;
+            return buildEntities(resultSet);
         } catch (SQLException exception) {
             throw new DAOException(exception.getMessage(), exception);
         }
     }
 
+    /**
+     * This method reads all entities one by one in constant memory and passes them to handler.
+     *
+     * @param handler the entity handler.
+     * @throws DAOException object if execution of query is failed.
+     */
+    @Override
+    public void selectAll(EntityHandler<T> handler) throws DAOException {
+        String sqlQuery = commonQueries.get(SELECT_ALL_QUERY_KEY);
+
+        streamEntities(handler, sqlQuery);
+    }
+
     /**
      * This method finds entity from database by id.
      *
@@ -108,18 +120,39 @@ public abstract class AbstractDAOImpl<T extends Entity> implements DAO<T> {
     }
 
     /**
-     * This method insert entity in database.
+     * This method insert entity in database. Id, that was generated by database, is set to entity
+     * in the same round trip.
      *
      * @param entity the entity.
      * @return true if operation was made successfully and false otherwise.
-     * @throws DAOException object if execution of query is failed.
+     * @throws DAOException object if execution of query is failed or generated id wasn't returned.
      */
     @Override
     public boolean insert(T entity) throws DAOException {
         String sqlQuery = commonQueries.get(INSERT_ENTITY_QUERY_KEY);
-        List<String> parameters = getEntityParameters(entity);
 
-        return executeQuery(sqlQuery, parameters);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sqlQuery, Statement.RETURN_GENERATED_KEYS)) {
+            ParameterBinder binder = new ParameterBinder(preparedStatement);
+            bindEntityParameters(binder, entity);
+
+            int queryResult = preparedStatement.executeUpdate();
+            if (queryResult == EMPTY_RESULT) {
+                return false;
+            }
+
+            try (ResultSet generatedKeys = preparedStatement.getGeneratedKeys()) {
+                if (!generatedKeys.next()) {
+                    throw new DAOException(String.format("Generated key wasn't returned for query - %s.", sqlQuery));
+                }
+
+                int id = generatedKeys.getInt(GENERATED_KEY_COLUMN_INDEX);
+                entity.setId(id);
+            }
+
+            return true;
+        } catch (SQLException exception) {
+            throw new DAOException(exception.getMessage(), exception);
+        }
     }
 
     /**
@@ -132,13 +165,8 @@ public abstract class AbstractDAOImpl<T extends Entity> implements DAO<T> {
     @Override
     public boolean update(T entity) throws DAOException {
         String sqlQuery = commonQueries.get(UPDATE_ENTITY_QUERY_KEY);
-        List<String> parameters = getEntityParameters(entity);
-
-        int entityId = entity.getId();
-        String entityIdValue = String.valueOf(entityId);
-        parameters.add(entityIdValue);
 
-        return executeQuery(sqlQuery, parameters);
+        return executeEntityQuery(sqlQuery, entity);
     }
 
     /**
@@ -160,15 +188,20 @@ public abstract class AbstractDAOImpl<T extends Entity> implements DAO<T> {
     }
 
     /**
-     * This method executes query.
+     * This method executes update query with entity's parameters. Entity's id is bound after its parameters.
      *
      * @param sqlQuery   the sql query.
-     * @param parameters the parameters.
+     * @param entity     the entity.
      * @return true if result is expected and false otherwise.
      * @throws DAOException object if execution of query is failed.
      */
-    private boolean executeQuery(String sqlQuery, List<String> parameters) throws DAOException {
-        try (PreparedStatement preparedStatement = preparedStatementForQuery(sqlQuery, parameters)) {
+    private boolean executeEntityQuery(String sqlQuery, T entity) throws DAOException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sqlQuery)) {
+            ParameterBinder binder = new ParameterBinder(preparedStatement);
+            bindEntityParameters(binder, entity);
+            int entityId = entity.getId();
+            binder.bindInt(entityId);
+
             int queryResult = preparedStatement.executeUpdate();
 
             return queryResult != EMPTY_RESULT;
@@ -179,26 +212,21 @@ public abstract class AbstractDAOImpl<T extends Entity> implements DAO<T> {
 
     /**
      * This method initialize PreparedStatement object and sets it's parameters.
+     * Statement is taken from statement cache of pooled connection, so it must be closed after usage to be reused.
      *
      * @param sqlQuery   the sql query.
-     * @param parameters the sql getEntityParameters.
+     * @param parameters the sql parameters.
      * @return PreparedStatement object.
      * @throws DAOException object if execution of query is failed.
      */
     protected PreparedStatement prepareStatementForQuery(String sqlQuery, Object... parameters) throws DAOException {
         try {
             PreparedStatement preparedStatement = connection.prepareStatement(sqlQuery);
-
-            if (parameters != null) {
-                int parameterIndex = 1;
-                for (Object parameter : parameters) {
-                    if (parameter == null) {
-                        preparedStatement.setNull(parameterIndex, Types.NULL);
-                    } else {
-                        preparedStatement.setObject(parameterIndex, parameter);
-                    }
-                    parameterIndex++;
-                }
+            try {
+                setParameters(preparedStatement, parameters);
+            } catch (SQLException exception) {
+                preparedStatement.close();
+                throw exception;
             }
 
             return preparedStatement;
@@ -208,52 +236,128 @@ public abstract class AbstractDAOImpl<T extends Entity> implements DAO<T> {
     }
 
     /**
-     * This method initialize PreparedStatement object and sets it's parameters.
+     * This method executes query with streaming result set and passes built entities to handler one by one.
+     * Streaming statement isn't cached, because its fetch size differs from other statements.
+     * Connection is marked as streaming, so nested connection manager fails instead of joining it.
      *
+     * @param handler    the entity handler.
      * @param sqlQuery   the sql query.
-     * @param parameters the sql getEntityParameters.
-     * @return PreparedStatement object.
+     * @param parameters the sql parameters.
      * @throws DAOException object if execution of query is failed.
      */
-    private PreparedStatement preparedStatementForQuery(String sqlQuery, List<String> parameters) throws DAOException {
-        try {
-            PreparedStatement preparedStatement = connection.prepareStatement(sqlQuery);
+    protected void streamEntities(EntityHandler<T> handler, String sqlQuery, Object... parameters) throws DAOException {
+        ConnectionManager.setStreaming(connection, true);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sqlQuery, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            preparedStatement.setFetchSize(STREAMING_FETCH_SIZE);
+            setParameters(preparedStatement, parameters);
 
-            if (parameters != null) {
-                int parameterIndex = 1;
-                for (String parameter : parameters) {
-                    if (NULL_PARAMETER.equals(parameter)) {
-                        preparedStatement.setNull(parameterIndex, Types.NULL);
-                    } else {
-                        preparedStatement.setString(parameterIndex, parameter);
-                    }
-                    parameterIndex++;
-                }
-            }
+            ResultSet resultSet = preparedStatement.executeQuery();
+            int[] columnIndexes = resolveColumnIndexes(resultSet);
 
-            return preparedStatement;
+            boolean isContinue = true;
+            while (isContinue && resultSet.next()) {
+                T entity = buildEntity(resultSet, columnIndexes);
+                isContinue = handler.handle(entity);
+            }
         } catch (SQLException exception) {
             throw new DAOException(exception.getMessage(), exception);
+        } finally {
+            ConnectionManager.setStreaming(connection, false);
         }
+    }
 
+    private void setParameters(PreparedStatement preparedStatement, Object... parameters) throws SQLException {
+        if (parameters != null) {
+            int parameterIndex = 1;
+            for (Object parameter : parameters) {
+                if (parameter == null) {
+                    preparedStatement.setNull(parameterIndex, Types.NULL);
+                } else {
+                    preparedStatement.setObject(parameterIndex, parameter);
+                }
+                parameterIndex++;
+            }
+        }
     }
 
     /**
-     * This method gets entity's parameters.
+     * This method binds entity's parameters in order of columns of insert and update queries.
      *
+     * @param binder the parameter binder.
      * @param entity the entity.
-     * @return List object with parameters.
+     * @throws SQLException object if parameter wasn't bound.
      */
-    protected abstract List<String> getEntityParameters(T entity);
+    protected abstract void bindEntityParameters(ParameterBinder binder, T entity) throws SQLException;
 
     /**
-     * This method builds entity from ResultSet object.
+     * This method builds entities from all rows of ResultSet object. Column indexes are resolved once.
+     *
+     * @param resultSet the result set of statement.
+     * @return List of entities.
+     * @throws DAOException object if execution of query is failed.
+     */
+    protected List<T> buildEntities(ResultSet resultSet) throws DAOException {
+        try {
+            List<T> entities = new ArrayList<>();
+            int[] columnIndexes = resolveColumnIndexes(resultSet);
+
+            while (resultSet.next()) {
+                T entity = buildEntity(resultSet, columnIndexes);
+                entities.add(entity);
+            }
+
+            return entities;
+        } catch (SQLException exception) {
+            throw new DAOException(exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * This method builds entity from current row of ResultSet object.
      *
      * @param resultSet the result set of statement.
      * @return the entity.
      * @throws DAOException object if execution of query is failed.
      */
-    protected abstract T buildEntity(ResultSet resultSet) throws DAOException;
+    protected T buildEntity(ResultSet resultSet) throws DAOException {
+        int[] columnIndexes = resolveColumnIndexes(resultSet);
+
+        return buildEntity(resultSet, columnIndexes);
+    }
+
+    /**
+     * This method resolves indexes of entity's columns in ResultSet object.
+     *
+     * @param resultSet the result set of statement.
+     * @return array of column indexes in order of labels of column index resolver.
+     * @throws DAOException object if column wasn't found.
+     */
+    protected int[] resolveColumnIndexes(ResultSet resultSet) throws DAOException {
+        try {
+            ColumnIndexResolver columnIndexResolver = getColumnIndexResolver();
+
+            return columnIndexResolver.resolve(resultSet);
+        } catch (SQLException exception) {
+            throw new DAOException(exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * This method builds entity from current row of ResultSet object reading columns by index.
+     *
+     * @param resultSet     the result set of statement.
+     * @param columnIndexes the column indexes, that were resolved by column index resolver.
+     * @return the entity.
+     * @throws DAOException object if execution of query is failed.
+     */
+    protected abstract T buildEntity(ResultSet resultSet, int[] columnIndexes) throws DAOException;
+
+    /**
+     * This method gets resolver of entity's column indexes.
+     *
+     * @return the column index resolver.
+     */
+    protected abstract ColumnIndexResolver getColumnIndexResolver();
 
     /**
      * This method initialize queries for common operations.
@@ -0,0 +1,91 @@
+package by.epam.gym.dao;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Class that resolves indexes of columns in result set by their labels.
+ * <p>
+ * Indexes are resolved once for every shape of result set, that is list of its column labels, and cached,
+ * so entities are built by column index without lookup of label for every row.
+ *
+ * @author Eugene Makarenko
+ * @see ResultSetMetaData
+ * @see AbstractDAOImpl
+ */
+public class ColumnIndexResolver {
+
+    private static final int MAX_CACHED_SHAPES_COUNT = 64;
+    private static final char LABEL_SEPARATOR = ',';
+
+    private final String[] columnLabels;
+    private final ConcurrentMap<String, int[]> cachedIndexes;
+
+    /**
+     * Instantiates a new ColumnIndexResolver.
+     *
+     * @param columnLabels the labels of columns in order of their positions in resolved indexes.
+     */
+    public ColumnIndexResolver(String... columnLabels) {
+        this.columnLabels = columnLabels;
+        this.cachedIndexes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * This method resolves indexes of columns in result set.
+     *
+     * @param resultSet the result set.
+     * @return array with column index for every label in order of labels.
+     * @throws SQLException object if column wasn't found in result set.
+     */
+    public int[] resolve(ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        String[] resultSetLabels = new String[columnCount];
+
+        StringBuilder shapeBuilder = new StringBuilder();
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            String label = metaData.getColumnLabel(columnIndex);
+            resultSetLabels[columnIndex - 1] = label;
+            shapeBuilder.append(label).append(LABEL_SEPARATOR);
+        }
+        String shape = shapeBuilder.toString();
+
+        int[] indexes = cachedIndexes.get(shape);
+        if (indexes == null) {
+            indexes = findIndexes(resultSetLabels);
+
+            if (cachedIndexes.size() >= MAX_CACHED_SHAPES_COUNT) {
+                cachedIndexes.clear();
+            }
+            cachedIndexes.putIfAbsent(shape, indexes);
+        }
+
+        return indexes;
+    }
+
+    private int[] findIndexes(String[] resultSetLabels) throws SQLException {
+        int[] indexes = new int[columnLabels.length];
+
+        for (int labelIndex = 0; labelIndex < columnLabels.length; labelIndex++) {
+            String columnLabel = columnLabels[labelIndex];
+            int columnIndex = 0;
+
+            for (int resultSetIndex = 0; resultSetIndex < resultSetLabels.length && columnIndex == 0; resultSetIndex++) {
+                if (columnLabel.equalsIgnoreCase(resultSetLabels[resultSetIndex])) {
+                    columnIndex = resultSetIndex + 1;
+                }
+            }
+
+            if (columnIndex == 0) {
+                throw new SQLException(String.format("Column '%s' not found.", columnLabel));
+            }
+            indexes[labelIndex] = columnIndex;
+        }
+
+        return indexes;
+    }
+}
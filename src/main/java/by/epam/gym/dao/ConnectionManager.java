@@ -1,5 +1,7 @@
 package by.epam.gym.dao;
 
+import by.epam.gym.exceptions.ConnectionPoolException;
+import by.epam.gym.exceptions.DAOException;
 import by.epam.gym.pool.ConnectionPool;
 import org.apache.log4j.Logger;
 
@@ -8,66 +10,146 @@ import java.sql.SQLException;
 
 /**
  * Class of dao level to work with connection from pool.
+ * <p>
+ * Connection manager is bound to current thread while it's open. Connection manager, that is created
+ * with {@link TransactionPropagation#REQUIRED} propagation while another one is open, joins its connection
+ * and transaction instead of taking one more connection from pool, so nested service calls use one connection.
+ * Only connection manager, that has started transaction, commits and ends it. Rollback of joined
+ * transaction by nested manager makes outer manager roll it back instead of commit.
+ * <p>
+ * Connection, that streams result set, can't execute other queries until streaming is ended, so connection
+ * manager with required propagation can't be created while joined connection is streaming.
  *
  * @author Eugene Makarenko
  * @see Connection
  * @see ConnectionPool
+ * @see TransactionPropagation
  */
 public class ConnectionManager implements AutoCloseable {
 
     private static final Logger LOGGER = Logger.getLogger(ConnectionManager.class);
+
+    private static final ThreadLocal<ConnectionManager> CURRENT_MANAGER = new ThreadLocal<>();
+
     private final Connection connection;
+    private final ConnectionManager ownerManager;
+    private final ConnectionManager previousManager;
     private ConnectionPool connectionPool;
 
+    private boolean isTransactionActive;
+    private boolean isRollbackOnly;
+    private boolean isTransactionOwner;
+    private boolean isStreaming;
+
+    /**
+     * Instantiates a new ConnectionManager with required propagation.
+     *
+     * @throws DAOException object if connection wasn't got from pool.
+     */
+    public ConnectionManager() throws DAOException {
+        this(TransactionPropagation.REQUIRED);
+    }
+
     /**
      * Instantiates a new ConnectionManager.
+     *
+     * @param propagation the propagation, that defines if open connection manager of current thread is joined.
+     * @throws DAOException object if connection wasn't got from pool.
      */
-    public ConnectionManager() {
+    public ConnectionManager(TransactionPropagation propagation) throws DAOException {
+        ConnectionManager currentManager = CURRENT_MANAGER.get();
+
+        if (currentManager != null && propagation == TransactionPropagation.REQUIRED) {
+            if (currentManager.isStreaming) {
+                throw new DAOException("Connection is busy with streaming of result set, so it can't be joined.");
+            }
+
+            ownerManager = currentManager;
+            connection = ownerManager.connection;
+            previousManager = null;
+            return;
+        }
+
         connectionPool = ConnectionPool.getInstance();
-        connection = connectionPool.getConnection();
+        try {
+            connection = connectionPool.getConnection();
+        } catch (ConnectionPoolException exception) {
+            throw new DAOException(exception.getMessage(), exception);
+        }
+
+        ownerManager = this;
+        previousManager = currentManager;
+        CURRENT_MANAGER.set(this);
     }
 
     /**
-     * The method starts transaction.
+     * The method starts transaction. If transaction of joined connection is already started, it's joined.
      */
     public void startTransaction() {
+        if (ownerManager.isTransactionActive) {
+            return;
+        }
+
         try {
             connection.setAutoCommit(false);
+            ownerManager.isTransactionActive = true;
+            isTransactionOwner = true;
         } catch (SQLException exception) {
             LOGGER.error("Transaction start failed. ", exception);
         }
     }
 
     /**
-     * The method commits transaction.
+     * The method commits transaction. Joined transaction is committed by manager, that has started it.
+     * Transaction, that was rolled back by nested manager, is rolled back instead and the exception is thrown.
+     *
+     * @throws DAOException object if transaction was rolled back instead of commit or commit is failed.
      */
-    public void commitTransaction() {
+    public void commitTransaction() throws DAOException {
+        if (!isTransactionOwner) {
+            return;
+        }
+
+        if (ownerManager.isRollbackOnly) {
+            rollback();
+            throw new DAOException("Transaction was rolled back by nested operation, so it can't be committed.");
+        }
+
         try {
             connection.commit();
         } catch (SQLException exception) {
-            LOGGER.error("Transaction commit failed. ", exception);
+            throw new DAOException("Transaction commit failed. " + exception.getMessage(), exception);
         }
     }
 
     /**
-     * The method rollback transaction.
+     * The method rollback transaction. Joined transaction is marked to be rolled back by manager, that has started it.
      */
     public void rollbackTransaction() {
-        try {
-            connection.rollback();
-        } catch (SQLException exception) {
-            LOGGER.error("Transaction rollback failed. ", exception);
+        if (!isTransactionOwner) {
+            ownerManager.isRollbackOnly = true;
+            return;
         }
+
+        rollback();
     }
 
     /**
      * This method ends transaction.
      */
     public void endTransaction() {
+        if (!isTransactionOwner) {
+            return;
+        }
+
         try {
             connection.setAutoCommit(true);
         } catch (SQLException exception) {
             LOGGER.error("Transaction end failed. ", exception);
+        } finally {
+            ownerManager.isTransactionActive = false;
+            ownerManager.isRollbackOnly = false;
+            isTransactionOwner = false;
         }
     }
 
@@ -81,10 +163,44 @@ public class ConnectionManager implements AutoCloseable {
     }
 
     /**
-     * Implementation of AutoCloseable interface to work with try().
+     * This method marks connection of current thread's connection manager as busy with streaming of result set
+     * or as free after streaming. Connection, that isn't taken by current connection manager, isn't marked.
+     *
+     * @param connection  the streaming connection.
+     * @param isStreaming true if streaming is started and false if it's ended.
+     */
+    static void setStreaming(Connection connection, boolean isStreaming) {
+        ConnectionManager currentManager = CURRENT_MANAGER.get();
+
+        if (currentManager != null && currentManager.connection == connection) {
+            currentManager.isStreaming = isStreaming;
+        }
+    }
+
+    /**
+     * Implementation of AutoCloseable interface to work with try(). Connection is returned to pool only
+     * by manager, that has taken it.
      */
     @Override
     public void close() {
+        if (ownerManager != this) {
+            return;
+        }
+
+        if (previousManager == null) {
+            CURRENT_MANAGER.remove();
+        } else {
+            CURRENT_MANAGER.set(previousManager);
+        }
+
         connectionPool.returnConnection(connection);
     }
+
+    private void rollback() {
+        try {
+            connection.rollback();
+        } catch (SQLException exception) {
+            LOGGER.error("Transaction rollback failed. ", exception);
+        }
+    }
 }
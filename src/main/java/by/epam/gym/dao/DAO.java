@@ -20,6 +20,14 @@ public interface DAO<T extends Entity> {
      */
     List<T> selectAll() throws DAOException;
 
+    /**
+     * This method reads all entities one by one in constant memory and passes them to handler.
+     *
+     * @param handler the entity handler.
+     * @throws DAOException object if execution of query is failed.
+     */
+    void selectAll(EntityHandler<T> handler) throws DAOException;
+
     /**
      * This method finds entity from database by id.
      *
@@ -38,7 +46,7 @@ public interface DAO<T extends Entity> {
     boolean deleteById(int id) throws DAOException;
 
     /**
-     * This method insert entity in database.
+     * This method insert entity in database and sets generated id to it.
      *
      * @param entity the entity.
      * @return boolean true if entity created successfully, otherwise false.
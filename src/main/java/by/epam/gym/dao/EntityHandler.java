@@ -0,0 +1,29 @@
+package by.epam.gym.dao;
+
+import by.epam.gym.entities.Entity;
+import by.epam.gym.exceptions.DAOException;
+
+/**
+ * Callback interface that handles entities one by one, while they are read from streaming result set.
+ * <p>
+ * Connection is busy with streaming until the last entity is handled, so handler mustn't execute queries
+ * with the same connection. Service methods, that are called by handler, would join the same connection
+ * of current thread, so connection manager with {@link TransactionPropagation#REQUIRED} propagation
+ * throws DAOException while connection is streaming. Handler, that needs database, must use connection
+ * manager with {@link TransactionPropagation#REQUIRES_NEW} propagation.
+ *
+ * @param <T> the entity type.
+ * @author Eugene Makarenko
+ * @see DAO
+ */
+public interface EntityHandler<T extends Entity> {
+
+    /**
+     * This method handles entity.
+     *
+     * @param entity the entity.
+     * @return true to continue reading of entities and false to stop it.
+     * @throws DAOException object if handling of entity is failed.
+     */
+    boolean handle(T entity) throws DAOException;
+}
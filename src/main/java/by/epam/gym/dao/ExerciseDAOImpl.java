@@ -8,6 +8,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.*;
 
 /**
@@ -34,6 +35,10 @@ public class ExerciseDAOImpl extends AbstractDAOImpl<Exercise> {
 
     private static final String INSERT_EXERCISE_INTO_TRAINING_PROGRAM = "INSERT INTO training_complexes " +
             "(program_id, exercise_id, day_number, sets_count, repeats_count, execution_number) VALUES (?,?,?,?,?,?)";
+    private static final String UPDATE_EXERCISE_IN_TRAINING_PROGRAM = "UPDATE training_complexes " +
+            "SET sets_count=?, repeats_count=?, execution_number=? WHERE program_id=? AND exercise_id=? AND day_number=?";
+    private static final String DELETE_EXERCISE_FROM_TRAINING_PROGRAM = "DELETE FROM training_complexes " +
+            "WHERE program_id=? AND exercise_id=? AND day_number=?";
 
     private static final String NAME_COLUMN_LABEL = "name";
     private static final String LEVEL_COLUMN_LABEL = "level";
@@ -43,6 +48,24 @@ public class ExerciseDAOImpl extends AbstractDAOImpl<Exercise> {
     private static final String DAY_NUMBER_COLUMN_LABEL = "day_number";
     private static final String EXECUTION_NUMBER_COLUMN_LABEL = "execution_number";
 
+    private static final int FIRST_EXECUTION_NUMBER = 1;
+
+    private static final int ID_POSITION = 0;
+    private static final int NAME_POSITION = 1;
+    private static final int LEVEL_POSITION = 2;
+    private static final int DESCRIPTION_POSITION = 3;
+
+    private static final ColumnIndexResolver COLUMN_INDEX_RESOLVER = new ColumnIndexResolver(
+            ID_COLUMN_LABEL, NAME_COLUMN_LABEL, LEVEL_COLUMN_LABEL, DESCRIPTION_COLUMN_LABEL);
+
+    private static final int DAY_NUMBER_POSITION = 0;
+    private static final int SETS_COUNT_POSITION = 1;
+    private static final int REPEATS_COUNT_POSITION = 2;
+    private static final int EXECUTION_NUMBER_POSITION = 3;
+
+    private static final ColumnIndexResolver COMPLEX_COLUMN_INDEX_RESOLVER = new ColumnIndexResolver(
+            DAY_NUMBER_COLUMN_LABEL, SETS_COUNT_COLUMN_LABEL, REPEATS_COUNT_COLUMN_LABEL, EXECUTION_NUMBER_COLUMN_LABEL);
+
     /**
      * Instantiates a new AbstractDAOImpl.
      *
@@ -67,11 +90,14 @@ public class ExerciseDAOImpl extends AbstractDAOImpl<Exercise> {
             List<Exercise> exercisesByDay = new ArrayList<>();
             int dayIndex = 1;
 
+            int[] columnIndexes = resolveColumnIndexes(resultSet);
+            int[] complexColumnIndexes = COMPLEX_COLUMN_INDEX_RESOLVER.resolve(resultSet);
+
             while (resultSet.next()) {
-                int dayNumber = resultSet.getInt(DAY_NUMBER_COLUMN_LABEL);
-                int setsCount = resultSet.getInt(SETS_COUNT_COLUMN_LABEL);
-                int repeatsCount = resultSet.getInt(REPEATS_COUNT_COLUMN_LABEL);
-                int executionNumber = resultSet.getInt(EXECUTION_NUMBER_COLUMN_LABEL);
+                int dayNumber = resultSet.getInt(complexColumnIndexes[DAY_NUMBER_POSITION]);
+                int setsCount = resultSet.getInt(complexColumnIndexes[SETS_COUNT_POSITION]);
+                int repeatsCount = resultSet.getInt(complexColumnIndexes[REPEATS_COUNT_POSITION]);
+                int executionNumber = resultSet.getInt(complexColumnIndexes[EXECUTION_NUMBER_POSITION]);
 
                 if (dayIndex != dayNumber) {
                     exercisesByDays.put(dayIndex, exercisesByDay);
@@ -79,7 +105,7 @@ public class ExerciseDAOImpl extends AbstractDAOImpl<Exercise> {
                     dayIndex = dayNumber;
                 }
 
-                Exercise exercise = buildEntity(resultSet);
+                Exercise exercise = buildEntity(resultSet, columnIndexes);
                 exercise.setDayNumber(dayNumber);
                 exercise.setRepeatsCount(repeatsCount);
                 exercise.setSetsCount(setsCount);
@@ -97,67 +123,172 @@ public class ExerciseDAOImpl extends AbstractDAOImpl<Exercise> {
     }
 
     /**
-     * This method insert exercise to training program.
+     * This method inserts all exercises of training program in one batch.
+     * Execution number of exercise is its position in the day starting from one.
      *
      * @param trainingProgramId the training program id.
-     * @param exerciseId        the exercise id.
-     * @param dayNumber         the day number.
-     * @param setsCount         the sets count.
-     * @param repeatsCount      the repeats count.
-     * @param numberOfExecution the number of execution.
-     * @return true if operation was made successfully and false otherwise.
+     * @param daysAndExercises  the Map with day numbers and exercises.
+     * @return true if every exercise was inserted and false otherwise.
      * @throws DAOException object if execution of query is failed.
      */
-    public boolean insertExerciseIntoTrainingProgram(int trainingProgramId, int exerciseId, int dayNumber, int setsCount, int repeatsCount, int numberOfExecution) throws DAOException {
-        return executeQuery(INSERT_EXERCISE_INTO_TRAINING_PROGRAM, trainingProgramId, exerciseId, dayNumber, setsCount, repeatsCount, numberOfExecution);
+    public boolean insertExercisesIntoTrainingProgram(int trainingProgramId, Map<Integer, List<Exercise>> daysAndExercises) throws DAOException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(INSERT_EXERCISE_INTO_TRAINING_PROGRAM)) {
+            int batchSize = 0;
+
+            for (Map.Entry<Integer, List<Exercise>> entry : daysAndExercises.entrySet()) {
+                int dayNumber = entry.getKey();
+                int executionNumber = FIRST_EXECUTION_NUMBER;
+
+                for (Exercise exercise : entry.getValue()) {
+                    ParameterBinder binder = new ParameterBinder(preparedStatement);
+                    binder.bindInt(trainingProgramId)
+                            .bindInt(exercise.getId())
+                            .bindInt(dayNumber)
+                            .bindInt(exercise.getSetsCount())
+                            .bindInt(exercise.getRepeatsCount())
+                            .bindInt(executionNumber);
+                    preparedStatement.addBatch();
+
+                    executionNumber++;
+                    batchSize++;
+                }
+            }
+
+            return batchSize == EMPTY_RESULT || executeBatch(preparedStatement);
+        } catch (SQLException exception) {
+            throw new DAOException(exception.getMessage(), exception);
+        }
     }
 
     /**
-     * This method gets entity's parameters.
+     * This method applies changes of training program. Every kind of change is sent in one batch.
+     * Exercises must have day number and execution number.
      *
-     * @param entity the entity.
-     * @return List object with parameters.
+     * @param trainingProgramId the training program id.
+     * @param insertedExercises the exercises that were added to training program.
+     * @param updatedExercises  the exercises which sets count, repeats count or execution number were changed.
+     * @param deletedExercises  the exercises that were removed from training program.
+     * @return true if every change was applied and false otherwise.
+     * @throws DAOException object if execution of query is failed.
      */
-    @Override
-    protected List<String> getEntityParameters(Exercise entity) {
-        List<String> parameters = new ArrayList<>();
+    public boolean updateExercisesOfTrainingProgram(int trainingProgramId, List<Exercise> insertedExercises, List<Exercise> updatedExercises, List<Exercise> deletedExercises) throws DAOException {
+        try {
+            if (!deletedExercises.isEmpty()) {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(DELETE_EXERCISE_FROM_TRAINING_PROGRAM)) {
+                    for (Exercise exercise : deletedExercises) {
+                        ParameterBinder binder = new ParameterBinder(preparedStatement);
+                        binder.bindInt(trainingProgramId)
+                                .bindInt(exercise.getId())
+                                .bindInt(exercise.getDayNumber());
+                        preparedStatement.addBatch();
+                    }
+
+                    if (!executeBatch(preparedStatement)) {
+                        return false;
+                    }
+                }
+            }
+
+            if (!updatedExercises.isEmpty()) {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(UPDATE_EXERCISE_IN_TRAINING_PROGRAM)) {
+                    for (Exercise exercise : updatedExercises) {
+                        ParameterBinder binder = new ParameterBinder(preparedStatement);
+                        binder.bindInt(exercise.getSetsCount())
+                                .bindInt(exercise.getRepeatsCount())
+                                .bindInt(exercise.getExecutionNumber())
+                                .bindInt(trainingProgramId)
+                                .bindInt(exercise.getId())
+                                .bindInt(exercise.getDayNumber());
+                        preparedStatement.addBatch();
+                    }
+
+                    if (!executeBatch(preparedStatement)) {
+                        return false;
+                    }
+                }
+            }
+
+            if (!insertedExercises.isEmpty()) {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(INSERT_EXERCISE_INTO_TRAINING_PROGRAM)) {
+                    for (Exercise exercise : insertedExercises) {
+                        ParameterBinder binder = new ParameterBinder(preparedStatement);
+                        binder.bindInt(trainingProgramId)
+                                .bindInt(exercise.getId())
+                                .bindInt(exercise.getDayNumber())
+                                .bindInt(exercise.getSetsCount())
+                                .bindInt(exercise.getRepeatsCount())
+                                .bindInt(exercise.getExecutionNumber());
+                        preparedStatement.addBatch();
+                    }
 
-        String name = entity.getName();
-        parameters.add(name);
+                    if (!executeBatch(preparedStatement)) {
+                        return false;
+                    }
+                }
+            }
 
-        ExerciseDifficultyLevel level = entity.getLevel();
-        String levelValue = String.valueOf(level);
-        parameters.add(levelValue);
+            return true;
+        } catch (SQLException exception) {
+            throw new DAOException(exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * This method executes batch of statement.
+     *
+     * @param preparedStatement the prepared statement with added batch.
+     * @return true if every query of batch changed row and false otherwise.
+     * @throws SQLException object if execution of batch is failed.
+     */
+    private boolean executeBatch(PreparedStatement preparedStatement) throws SQLException {
+        int[] queryResults = preparedStatement.executeBatch();
+        for (int queryResult : queryResults) {
+            if (queryResult == EMPTY_RESULT || queryResult == Statement.EXECUTE_FAILED) {
+                return false;
+            }
+        }
 
-        String description = entity.getDescription();
-        parameters.add(description);
+        return true;
+    }
 
-        return parameters;
+    /**
+     * This method binds entity's parameters in order of columns of insert and update queries.
+     *
+     * @param binder the parameter binder.
+     * @param entity the entity.
+     * @throws SQLException object if parameter wasn't bound.
+     */
+    @Override
+    protected void bindEntityParameters(ParameterBinder binder, Exercise entity) throws SQLException {
+        binder.bindString(entity.getName())
+                .bindEnum(entity.getLevel())
+                .bindString(entity.getDescription());
     }
 
     /**
      * This method builds Exercise object from ResultSet object.
      *
-     * @param resultSet the result set of statement.
+     * @param resultSet     the result set of statement.
+     * @param columnIndexes the column indexes, that were resolved by column index resolver.
      * @return The Exercise object.
      * @throws DAOException object if execution of query is failed.
      */
     @Override
-    protected Exercise buildEntity(ResultSet resultSet) throws DAOException {
+    protected Exercise buildEntity(ResultSet resultSet, int[] columnIndexes) throws DAOException {
         try {
             Exercise exercise = new Exercise();
 
-            int id = resultSet.getInt(ID_COLUMN_LABEL);
+            int id = resultSet.getInt(columnIndexes[ID_POSITION]);
             exercise.setId(id);
 
-            String name = resultSet.getString(NAME_COLUMN_LABEL);
+            String name = resultSet.getString(columnIndexes[NAME_POSITION]);
             exercise.setName(name);
 
-            String levelValue = resultSet.getString(LEVEL_COLUMN_LABEL);
+            String levelValue = resultSet.getString(columnIndexes[LEVEL_POSITION]);
             ExerciseDifficultyLevel level = ExerciseDifficultyLevel.valueOf(levelValue);
             exercise.setLevel(level);
 
-            String description = resultSet.getString(DESCRIPTION_COLUMN_LABEL);
+            String description = resultSet.getString(columnIndexes[DESCRIPTION_POSITION]);
             exercise.setDescription(description);
 
             return exercise;
@@ -166,6 +297,16 @@ public class ExerciseDAOImpl extends AbstractDAOImpl<Exercise> {
         }
     }
 
+    /**
+     * This method gets resolver of entity's column indexes.
+     *
+     * @return the column index resolver.
+     */
+    @Override
+    protected ColumnIndexResolver getColumnIndexResolver() {
+        return COLUMN_INDEX_RESOLVER;
+    }
+
     /**
      * This method initialize queries for common operations.
      *
@@ -6,7 +6,6 @@ import by.epam.gym.exceptions.DAOException;
 
 import java.math.BigDecimal;
 import java.sql.*;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -30,8 +29,13 @@ public class OrderDAOImpl extends AbstractDAOImpl<Order> {
     private static final String UPDATE_ENTITY_QUERY = "UPDATE orders SET client_id=?, purchase_date=?, end_date=?, duration=?, is_personal_trainer_need=?, price=?, is_payed=?, feedback=? WHERE id=?";
 
     private static final String SELECT_CLIENT_ORDERS_QUERY = "SELECT * FROM orders WHERE client_id=?";
+    private static final String SELECT_CLIENT_ORDERS_COUNT_QUERY = "SELECT COUNT(*) FROM orders WHERE client_id=?";
+    private static final String SELECT_CLIENTS_ORDERS_COUNTS_QUERY_PREFIX = "SELECT client_id, COUNT(*) FROM orders WHERE client_id IN (";
+    private static final String SELECT_CLIENTS_ORDERS_COUNTS_QUERY_SUFFIX = ") GROUP BY client_id";
+    private static final String QUERY_PARAMETER_PLACEHOLDER = "?";
+    private static final String QUERY_PARAMETER_SEPARATOR = ",";
     private static final String SELECT_CLIENT_ACTUAL_ORDER_QUERY = "SELECT * FROM orders WHERE client_id=? AND end_date>=CURDATE()";
-    private static final String SELECT_PRICE_FOR_ORDER_QUERY = "SELECT price FROM prices WHERE order_type=?";
+    private static final String SELECT_ALL_PRICES_QUERY = "SELECT order_type, price FROM prices";
     private static final String UPDATE_FEEDBACK_QUERY = "UPDATE orders SET feedback=? WHERE id=?";
 
     private static final String CLIENT_ID_COLUMN_LABEL = "client_id";
@@ -45,7 +49,26 @@ public class OrderDAOImpl extends AbstractDAOImpl<Order> {
 
     private static final int PERSONAL_TRAINER_NEED_TRUE_INDEX = 1;
 
-    private static final String PRICE_WITH_TRAINER_PARAMETER_PART = "_WITH_TRAINER";
+    private static final int COUNT_COLUMN_INDEX = 1;
+    private static final int GROUP_CLIENT_ID_COLUMN_INDEX = 1;
+    private static final int GROUP_COUNT_COLUMN_INDEX = 2;
+    private static final int ORDER_TYPE_COLUMN_INDEX = 1;
+    private static final int PRICE_COLUMN_INDEX = 2;
+
+    private static final int ID_POSITION = 0;
+    private static final int CLIENT_ID_POSITION = 1;
+    private static final int PURCHASE_DATE_POSITION = 2;
+    private static final int END_DATE_POSITION = 3;
+    private static final int DURATION_POSITION = 4;
+    private static final int IS_PERSONAL_TRAINER_NEED_POSITION = 5;
+    private static final int PRICE_POSITION = 6;
+    private static final int IS_PAYED_POSITION = 7;
+    private static final int FEEDBACK_POSITION = 8;
+
+    private static final ColumnIndexResolver COLUMN_INDEX_RESOLVER = new ColumnIndexResolver(
+            ID_COLUMN_LABEL, CLIENT_ID_COLUMN_LABEL, PURCHASE_DATE_COLUMN_LABEL, END_DATE_COLUMN_LABEL,
+            DURATION_COLUMN_LABEL, IS_PERSONAL_TRAINER_NEED, PRICE_COLUMN_LABEL, IS_PAYED_COLUMN_LABEL,
+            FEEDBACK_COLUMN_LABEL);
 
     /**
      * Instantiates a new OrderDAOImpl.
@@ -80,21 +103,91 @@ public class OrderDAOImpl extends AbstractDAOImpl<Order> {
     public List<Order> selectClientOrders(int clientId) throws DAOException {
         try (PreparedStatement preparedStatement = prepareStatementForQuery(SELECT_CLIENT_ORDERS_QUERY, clientId)) {
             ResultSet resultSet = preparedStatement.executeQuery();
-            List<Order> orders = new ArrayList<>();
 
-            while (resultSet.next()) {
-                Order order = buildEntity(resultSet);
+            return buildEntities(resultSet);
+        } catch (SQLException exception) {
+            throw new DAOException(exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * This method reads all client's orders one by one in constant memory and passes them to handler.
+     *
+     * @param clientId the client id.
+     * @param handler  the order handler.
+     * @throws DAOException object if execution of query is failed.
+     */
+    public void selectClientOrders(int clientId, EntityHandler<Order> handler) throws DAOException {
+        streamEntities(handler, SELECT_CLIENT_ORDERS_QUERY, clientId);
+    }
+
+    /**
+     * This method counts client's orders without reading them.
+     *
+     * @param clientId the client's id.
+     * @return the count of orders.
+     * @throws DAOException object if execution of query is failed.
+     */
+    public int selectClientOrdersCount(int clientId) throws DAOException {
+        try (PreparedStatement preparedStatement = prepareStatementForQuery(SELECT_CLIENT_ORDERS_COUNT_QUERY, clientId)) {
+            ResultSet resultSet = preparedStatement.executeQuery();
 
-                orders.add(order);
+            int ordersCount = 0;
+            if (resultSet.next()) {
+                ordersCount = resultSet.getInt(COUNT_COLUMN_INDEX);
             }
-            return orders;
+
+            return ordersCount;
         } catch (SQLException exception) {
             throw new DAOException(exception.getMessage(), exception);
         }
     }
 
     /**
-     * This method select price from database.
+     * This method counts orders of several clients in one query.
+     *
+     * @param clientIds the clients' ids.
+     * @return Map with client's id and count of orders. Clients without orders aren't in Map.
+     * @throws DAOException object if execution of query is failed.
+     */
+    public Map<Integer, Integer> selectClientsOrdersCounts(List<Integer> clientIds) throws DAOException {
+        Map<Integer, Integer> ordersCounts = new HashMap<>();
+        if (clientIds.isEmpty()) {
+            return ordersCounts;
+        }
+
+        StringBuilder queryBuilder = new StringBuilder(SELECT_CLIENTS_ORDERS_COUNTS_QUERY_PREFIX);
+        for (int parameterIndex = 0; parameterIndex < clientIds.size(); parameterIndex++) {
+            if (parameterIndex > 0) {
+                queryBuilder.append(QUERY_PARAMETER_SEPARATOR);
+            }
+            queryBuilder.append(QUERY_PARAMETER_PLACEHOLDER);
+        }
+        queryBuilder.append(SELECT_CLIENTS_ORDERS_COUNTS_QUERY_SUFFIX);
+        String sqlQuery = queryBuilder.toString();
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sqlQuery)) {
+            ParameterBinder binder = new ParameterBinder(preparedStatement);
+            for (int clientId : clientIds) {
+                binder.bindInt(clientId);
+            }
+
+            ResultSet resultSet = preparedStatement.executeQuery();
+            while (resultSet.next()) {
+                int clientId = resultSet.getInt(GROUP_CLIENT_ID_COLUMN_INDEX);
+                int ordersCount = resultSet.getInt(GROUP_COUNT_COLUMN_INDEX);
+                ordersCounts.put(clientId, ordersCount);
+            }
+
+            return ordersCounts;
+        } catch (SQLException exception) {
+            throw new DAOException(exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * This method select price for order from price catalogue, that loads prices from database
+     * only if they weren't loaded or are expired.
      *
      * @param duration              the order's duration
      * @param isPersonalTrainerNeed the int value of variable isPersonalTrainerNeed.
@@ -102,18 +195,29 @@ public class OrderDAOImpl extends AbstractDAOImpl<Order> {
      * @throws DAOException object if execution of query is failed.
      */
     public BigDecimal selectPriceForOrder(OrderDurationType duration, int isPersonalTrainerNeed) throws DAOException {
-        String parameter = String.valueOf(duration);
-        if (isPersonalTrainerNeed == PERSONAL_TRAINER_NEED_TRUE_INDEX) {
-            parameter += PRICE_WITH_TRAINER_PARAMETER_PART;
-        }
-        try (PreparedStatement preparedStatement = prepareStatementForQuery(SELECT_PRICE_FOR_ORDER_QUERY, parameter)) {
+        boolean isWithTrainer = isPersonalTrainerNeed == PERSONAL_TRAINER_NEED_TRUE_INDEX;
+        PriceCatalogue priceCatalogue = PriceCatalogue.getInstance();
+
+        return priceCatalogue.getPrice(duration, isWithTrainer, this);
+    }
+
+    /**
+     * This method selects all prices from database.
+     *
+     * @return Map with order types and prices.
+     * @throws DAOException object if execution of query is failed.
+     */
+    Map<String, BigDecimal> selectAllPrices() throws DAOException {
+        try (PreparedStatement preparedStatement = prepareStatementForQuery(SELECT_ALL_PRICES_QUERY)) {
             ResultSet resultSet = preparedStatement.executeQuery();
-            BigDecimal price = null;
-            if (resultSet.next()) {
-                price = resultSet.getBigDecimal(PRICE_COLUMN_LABEL);
+            Map<String, BigDecimal> prices = new HashMap<>();
+            while (resultSet.next()) {
+                String orderType = resultSet.getString(ORDER_TYPE_COLUMN_INDEX);
+                BigDecimal price = resultSet.getBigDecimal(PRICE_COLUMN_INDEX);
+                prices.put(orderType, price);
             }
 
-            return price;
+            return prices;
         } catch (SQLException exception) {
             throw new DAOException(exception.getMessage(), exception);
         }
@@ -137,91 +241,63 @@ public class OrderDAOImpl extends AbstractDAOImpl<Order> {
     }
 
     /**
-     * This method gets entity's parameters.
+     * This method binds entity's parameters in order of columns of insert and update queries.
      *
+     * @param binder the parameter binder.
      * @param entity the entity.
-     * @return List object with parameters.
+     * @throws SQLException object if parameter wasn't bound.
      */
     @Override
-    protected List<String> getEntityParameters(Order entity) {
-        List<String> parameters = new ArrayList<>();
-
-        int clientId = entity.getClientId();
-        String clientIdValue = String.valueOf(clientId);
-        parameters.add(clientIdValue);
-
-        Date purchaseDate = entity.getPurchaseDate();
-        String purchaseDateValue = String.valueOf(purchaseDate);
-        parameters.add(purchaseDateValue);
-
-        Date endDate = entity.getEndDate();
-        String endDateValue = String.valueOf(endDate);
-        parameters.add(endDateValue);
-
-        OrderDurationType duration = entity.getDuration();
-        String durationValue = String.valueOf(duration);
-        parameters.add(durationValue);
-
-        int isPersonalTrainerNeed = entity.getIsPersonalTrainerNeed();
-        String isPersonalTrainerNeedValue = String.valueOf(isPersonalTrainerNeed);
-        parameters.add(isPersonalTrainerNeedValue);
-
-        BigDecimal price = entity.getPrice();
-        String priceValue = String.valueOf(price);
-        parameters.add(priceValue);
-
-        int isPayed = entity.getIsPayed();
-        String isPayedValue = String.valueOf(isPayed);
-        parameters.add(isPayedValue);
-
-        String feedback = entity.getFeedback();
-        if (feedback == null) {
-            parameters.add(NULL_PARAMETER);
-        } else {
-            parameters.add(feedback);
-        }
-
-        return parameters;
+    protected void bindEntityParameters(ParameterBinder binder, Order entity) throws SQLException {
+        binder.bindInt(entity.getClientId())
+                .bindDate(entity.getPurchaseDate())
+                .bindDate(entity.getEndDate())
+                .bindEnum(entity.getDuration())
+                .bindInt(entity.getIsPersonalTrainerNeed())
+                .bindBigDecimal(entity.getPrice())
+                .bindInt(entity.getIsPayed())
+                .bindString(entity.getFeedback());
     }
 
     /**
      * This method builds Order object from ResultSet object.
      *
-     * @param resultSet the result set of statement.
+     * @param resultSet     the result set of statement.
+     * @param columnIndexes the column indexes, that were resolved by column index resolver.
      * @return the Order object.
      * @throws DAOException object if execution of query is failed.
      */
     @Override
-    protected Order buildEntity(ResultSet resultSet) throws DAOException {
+    protected Order buildEntity(ResultSet resultSet, int[] columnIndexes) throws DAOException {
         try {
             Order order = new Order();
 
-            int id = resultSet.getInt(ID_COLUMN_LABEL);
+            int id = resultSet.getInt(columnIndexes[ID_POSITION]);
             order.setId(id);
 
-            int clientId = resultSet.getInt(CLIENT_ID_COLUMN_LABEL);
+            int clientId = resultSet.getInt(columnIndexes[CLIENT_ID_POSITION]);
             order.setClientId(clientId);
 
-            Date purchaseDate = resultSet.getDate(PURCHASE_DATE_COLUMN_LABEL);
+            Date purchaseDate = resultSet.getDate(columnIndexes[PURCHASE_DATE_POSITION]);
             order.setPurchaseDate(purchaseDate);
 
-            Date endDate = resultSet.getDate(END_DATE_COLUMN_LABEL);
+            Date endDate = resultSet.getDate(columnIndexes[END_DATE_POSITION]);
             order.setEndDate(endDate);
 
-            String durationValue = resultSet.getString(DURATION_COLUMN_LABEL);
+            String durationValue = resultSet.getString(columnIndexes[DURATION_POSITION]);
             OrderDurationType duration = OrderDurationType.valueOf(durationValue);
             order.setDuration(duration);
 
-            int isPersonalTrainerNeed = resultSet.getInt(IS_PERSONAL_TRAINER_NEED);
+            int isPersonalTrainerNeed = resultSet.getInt(columnIndexes[IS_PERSONAL_TRAINER_NEED_POSITION]);
             order.setIsPersonalTrainerNeed(isPersonalTrainerNeed);
 
-            BigDecimal price = resultSet.getBigDecimal(PRICE_COLUMN_LABEL);
+            BigDecimal price = resultSet.getBigDecimal(columnIndexes[PRICE_POSITION]);
             order.setPrice(price);
 
-            int isPayed = resultSet.getInt(IS_PAYED_COLUMN_LABEL);
+            int isPayed = resultSet.getInt(columnIndexes[IS_PAYED_POSITION]);
             order.setIsPayed(isPayed);
 
-            String feedback = resultSet.getString(FEEDBACK_COLUMN_LABEL);
+            String feedback = resultSet.getString(columnIndexes[FEEDBACK_POSITION]);
             order.setFeedback(feedback);
 
             return order;
@@ -230,6 +306,16 @@ public class OrderDAOImpl extends AbstractDAOImpl<Order> {
         }
     }
 
+    /**
+     * This method gets resolver of entity's column indexes.
+     *
+     * @return the column index resolver.
+     */
+    @Override
+    protected ColumnIndexResolver getColumnIndexResolver() {
+        return COLUMN_INDEX_RESOLVER;
+    }
+
     /**
      * This method initialize queries for common operations.
      *
@@ -0,0 +1,127 @@
+package by.epam.gym.dao;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Class that binds typed parameters of PreparedStatement one by one in order of placeholders.
+ * Null values are bound by setNull with SQL type of column.
+ *
+ * @author Eugene Makarenko
+ * @see PreparedStatement
+ * @see AbstractDAOImpl
+ */
+public class ParameterBinder {
+
+    private static final int FIRST_PARAMETER_INDEX = 1;
+
+    private final PreparedStatement preparedStatement;
+    private int parameterIndex;
+
+    /**
+     * Instantiates a new ParameterBinder.
+     *
+     * @param preparedStatement the prepared statement.
+     */
+    public ParameterBinder(PreparedStatement preparedStatement) {
+        this.preparedStatement = preparedStatement;
+        this.parameterIndex = FIRST_PARAMETER_INDEX;
+    }
+
+    /**
+     * This method binds int parameter.
+     *
+     * @param value the value.
+     * @return this binder.
+     * @throws SQLException object if parameter wasn't bound.
+     */
+    public ParameterBinder bindInt(int value) throws SQLException {
+        preparedStatement.setInt(parameterIndex++, value);
+
+        return this;
+    }
+
+    /**
+     * This method binds nullable int parameter.
+     *
+     * @param value the value or null.
+     * @return this binder.
+     * @throws SQLException object if parameter wasn't bound.
+     */
+    public ParameterBinder bindInteger(Integer value) throws SQLException {
+        if (value == null) {
+            preparedStatement.setNull(parameterIndex++, Types.INTEGER);
+        } else {
+            preparedStatement.setInt(parameterIndex++, value);
+        }
+
+        return this;
+    }
+
+    /**
+     * This method binds string parameter.
+     *
+     * @param value the value or null.
+     * @return this binder.
+     * @throws SQLException object if parameter wasn't bound.
+     */
+    public ParameterBinder bindString(String value) throws SQLException {
+        if (value == null) {
+            preparedStatement.setNull(parameterIndex++, Types.VARCHAR);
+        } else {
+            preparedStatement.setString(parameterIndex++, value);
+        }
+
+        return this;
+    }
+
+    /**
+     * This method binds enum parameter by its name.
+     *
+     * @param value the value or null.
+     * @return this binder.
+     * @throws SQLException object if parameter wasn't bound.
+     */
+    public ParameterBinder bindEnum(Enum<?> value) throws SQLException {
+        String name = value == null ? null : value.name();
+
+        return bindString(name);
+    }
+
+    /**
+     * This method binds date parameter.
+     *
+     * @param value the value or null.
+     * @return this binder.
+     * @throws SQLException object if parameter wasn't bound.
+     */
+    public ParameterBinder bindDate(Date value) throws SQLException {
+        if (value == null) {
+            preparedStatement.setNull(parameterIndex++, Types.DATE);
+        } else {
+            preparedStatement.setDate(parameterIndex++, value);
+        }
+
+        return this;
+    }
+
+    /**
+     * This method binds decimal parameter.
+     *
+     * @param value the value or null.
+     * @return this binder.
+     * @throws SQLException object if parameter wasn't bound.
+     */
+    public ParameterBinder bindBigDecimal(BigDecimal value) throws SQLException {
+        if (value == null) {
+            preparedStatement.setNull(parameterIndex++, Types.DECIMAL);
+        } else {
+            preparedStatement.setBigDecimal(parameterIndex++, value);
+        }
+
+        return this;
+    }
+}
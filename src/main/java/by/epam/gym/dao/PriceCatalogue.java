@@ -0,0 +1,191 @@
+package by.epam.gym.dao;
+
+import by.epam.gym.entities.order.OrderDurationType;
+import by.epam.gym.exceptions.DAOException;
+import org.apache.log4j.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Read-through cache of prices table.
+ * <p>
+ * Prices are held as immutable snapshot, that is replaced as a whole, so they are read without locks.
+ * Snapshot is loaded again after refresh period or after invalidation through JMX. While one thread loads
+ * new snapshot, other threads get prices from previous one.
+ *
+ * @author Eugene Makarenko
+ * @see OrderDAOImpl
+ * @see OrderDurationType
+ */
+public class PriceCatalogue implements PriceCatalogueMBean {
+
+    private static final Logger LOGGER = Logger.getLogger(PriceCatalogue.class);
+
+    private static final String RESOURCE_BUNDLE_FILE_NAME = "database";
+    private static final String REFRESH_PERIOD_PROPERTY_KEY = "db.priceRefreshPeriodMs";
+    private static final long DEFAULT_REFRESH_PERIOD = 3_600_000L;
+
+    private static final String WITH_TRAINER_ORDER_TYPE_PART = "_WITH_TRAINER";
+    private static final String OBJECT_NAME = "by.epam.gym:type=PriceCatalogue";
+
+    private final static ResourceBundle RESOURCE_BUNDLE = ResourceBundle.getBundle(RESOURCE_BUNDLE_FILE_NAME);
+
+    private static final PriceCatalogue INSTANCE = new PriceCatalogue();
+
+    private final long refreshPeriod;
+    private final AtomicBoolean isRefreshing;
+    private volatile Prices prices;
+
+    private PriceCatalogue() {
+        if (RESOURCE_BUNDLE.containsKey(REFRESH_PERIOD_PROPERTY_KEY)) {
+            String refreshPeriodValue = RESOURCE_BUNDLE.getString(REFRESH_PERIOD_PROPERTY_KEY);
+            refreshPeriod = Long.parseLong(refreshPeriodValue);
+        } else {
+            refreshPeriod = DEFAULT_REFRESH_PERIOD;
+        }
+        isRefreshing = new AtomicBoolean();
+
+        register();
+    }
+
+    /**
+     * Gets instance of price catalogue.
+     *
+     * @return the price catalogue.
+     */
+    public static PriceCatalogue getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * This method gets price for order. Prices are loaded by order DAO if they weren't loaded or are expired.
+     *
+     * @param duration      the order's duration.
+     * @param isWithTrainer true if order is with personal trainer and false otherwise.
+     * @param orderDAO      the order DAO to load prices.
+     * @return the price or null if there isn't price for order.
+     * @throws DAOException object if prices weren't loaded.
+     */
+    BigDecimal getPrice(OrderDurationType duration, boolean isWithTrainer, OrderDAOImpl orderDAO) throws DAOException {
+        Prices currentPrices = prices;
+
+        if (currentPrices == null) {
+            currentPrices = load(orderDAO);
+        } else if (currentPrices.isExpired() && isRefreshing.compareAndSet(false, true)) {
+            try {
+                currentPrices = load(orderDAO);
+            } finally {
+                isRefreshing.set(false);
+            }
+        }
+
+        return currentPrices.getPrice(duration, isWithTrainer);
+    }
+
+    @Override
+    public long getLoadTime() {
+        Prices currentPrices = prices;
+
+        return currentPrices == null ? 0L : currentPrices.loadTime;
+    }
+
+    @Override
+    public long getRefreshPeriodMillis() {
+        return refreshPeriod;
+    }
+
+    @Override
+    public String getPrices() {
+        Prices currentPrices = prices;
+        if (currentPrices == null) {
+            return "";
+        }
+
+        return "without trainer " + currentPrices.pricesWithoutTrainer + ", with trainer " + currentPrices.pricesWithTrainer;
+    }
+
+    @Override
+    public void invalidate() {
+        Prices currentPrices = prices;
+        if (currentPrices != null) {
+            currentPrices.expirationTime = 0L;
+        }
+    }
+
+    private Prices load(OrderDAOImpl orderDAO) throws DAOException {
+        Map<String, BigDecimal> pricesByOrderTypes = orderDAO.selectAllPrices();
+
+        EnumMap<OrderDurationType, BigDecimal> pricesWithoutTrainer = new EnumMap<>(OrderDurationType.class);
+        EnumMap<OrderDurationType, BigDecimal> pricesWithTrainer = new EnumMap<>(OrderDurationType.class);
+        for (OrderDurationType duration : OrderDurationType.values()) {
+            String orderType = duration.name();
+
+            BigDecimal priceWithoutTrainer = pricesByOrderTypes.get(orderType);
+            if (priceWithoutTrainer != null) {
+                pricesWithoutTrainer.put(duration, priceWithoutTrainer);
+            }
+
+            BigDecimal priceWithTrainer = pricesByOrderTypes.get(orderType + WITH_TRAINER_ORDER_TYPE_PART);
+            if (priceWithTrainer != null) {
+                pricesWithTrainer.put(duration, priceWithTrainer);
+            }
+        }
+
+        long loadTime = System.currentTimeMillis();
+        Prices loadedPrices = new Prices(pricesWithoutTrainer, pricesWithTrainer, loadTime, loadTime + refreshPeriod);
+        prices = loadedPrices;
+
+        return loadedPrices;
+    }
+
+    private void register() {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+            mBeanServer.registerMBean(this, objectName);
+        } catch (JMException exception) {
+            LOGGER.warn("Price catalogue wasn't registered in MBean server.", exception);
+        }
+    }
+
+    /**
+     * Immutable snapshot of prices.
+     */
+    private static class Prices {
+
+        private final Map<OrderDurationType, BigDecimal> pricesWithoutTrainer;
+        private final Map<OrderDurationType, BigDecimal> pricesWithTrainer;
+        private final long loadTime;
+        private volatile long expirationTime;
+
+        private Prices(EnumMap<OrderDurationType, BigDecimal> pricesWithoutTrainer, EnumMap<OrderDurationType, BigDecimal> pricesWithTrainer,
+                       long loadTime, long expirationTime) {
+            this.pricesWithoutTrainer = Collections.unmodifiableMap(pricesWithoutTrainer);
+            this.pricesWithTrainer = Collections.unmodifiableMap(pricesWithTrainer);
+            this.loadTime = loadTime;
+            this.expirationTime = expirationTime;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() >= expirationTime;
+        }
+
+        private BigDecimal getPrice(OrderDurationType duration, boolean isWithTrainer) {
+            Map<OrderDurationType, BigDecimal> durationPrices = isWithTrainer ? pricesWithTrainer : pricesWithoutTrainer;
+
+            return durationPrices.get(duration);
+        }
+    }
+}
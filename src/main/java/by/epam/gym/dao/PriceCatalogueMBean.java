@@ -0,0 +1,36 @@
+package by.epam.gym.dao;
+
+/**
+ * Management interface of price catalogue, that is registered in platform MBean server.
+ *
+ * @author Eugene Makarenko
+ * @see PriceCatalogue
+ */
+public interface PriceCatalogueMBean {
+
+    /**
+     * Gets time of last load of prices.
+     *
+     * @return the time in milliseconds or zero if prices weren't loaded.
+     */
+    long getLoadTime();
+
+    /**
+     * Gets period between loads of prices.
+     *
+     * @return the period in milliseconds.
+     */
+    long getRefreshPeriodMillis();
+
+    /**
+     * Gets loaded prices.
+     *
+     * @return the prices by order types.
+     */
+    String getPrices();
+
+    /**
+     * Makes loaded prices expired, so they are loaded again on next request of price.
+     */
+    void invalidate();
+}
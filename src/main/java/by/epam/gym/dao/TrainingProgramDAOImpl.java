@@ -1,12 +1,12 @@
 package by.epam.gym.dao;
 
 import by.epam.gym.entities.TrainingProgram;
+import by.epam.gym.entities.TrainingProgramDraft;
+import by.epam.gym.entities.TrainingProgramView;
 import by.epam.gym.exceptions.DAOException;
 
 import java.sql.*;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -28,9 +28,14 @@ public class TrainingProgramDAOImpl extends AbstractDAOImpl<TrainingProgram> {
     private static final String UPDATE_ENTITY_QUERY = "UPDATE training_programs SET author_id=?, personal_trainer_id=?, client_id=?, start_date=?, end_date=?, diet=? WHERE id=?";
 
     private static final String SELECT_IS_PERSONAL_TRAINER_NEED_VALUE_QUERY = "SELECT is_personal_trainer_need FROM orders WHERE client_id=?";
-    private static final String SELECT_CLIENT_TRAINING_PROGRAM_QUERY = "SELECT * FROM training_programs WHERE id IN (SELECT MAX(id) FROM training_programs WHERE client_id=?)";
-    private static final String SELECT_LAST_INSERT_ID_QUERY = "SELECT LAST_INSERT_ID()";
+    private static final String SELECT_CLIENT_TRAINING_PROGRAM_VIEW_QUERY = "SELECT training_programs.id, author_id, personal_trainer_id," +
+            " client_id, start_date, end_date, diet, first_name, last_name, exercise_id, day_number, sets_count, repeats_count" +
+            " FROM (SELECT * FROM training_programs WHERE client_id=? ORDER BY id DESC LIMIT 1) AS training_programs" +
+            " LEFT OUTER JOIN users ON users.id = training_programs.author_id" +
+            " LEFT OUTER JOIN training_complexes ON training_complexes.program_id = training_programs.id" +
+            " ORDER BY day_number, execution_number";
     private static final String DELETE_EXERCISES_FROM_TRAINING_PROGRAM_QUERY = "DELETE FROM training_complexes WHERE program_id=?";
+    private static final String LOCK_TRAINING_PROGRAM_QUERY = "SELECT id FROM training_programs WHERE id=? FOR UPDATE";
 
     private static final String AUTHOR_ID_COLUMN_LABEL = "author_id";
     private static final String PERSONAL_TRAINER_ID_COLUMN_LABEL = "personal_trainer_id";
@@ -38,8 +43,40 @@ public class TrainingProgramDAOImpl extends AbstractDAOImpl<TrainingProgram> {
     private static final String START_DATE_COLUMN_LABEL = "start_date";
     private static final String END_DATE_COLUMN_LABEL = "end_date";
     private static final String DIET_COLUMN_LABEL = "diet";
-    private static final String LAST_INSERT_ID_COLUMN_LABEL = "LAST_INSERT_ID()";
     private static final String IS_PERSONAL_TRAINER_NEED_COLUMN_LABEL = "is_personal_trainer_need";
+    private static final String FIRST_NAME_COLUMN_LABEL = "first_name";
+    private static final String LAST_NAME_COLUMN_LABEL = "last_name";
+    private static final String EXERCISE_ID_COLUMN_LABEL = "exercise_id";
+    private static final String DAY_NUMBER_COLUMN_LABEL = "day_number";
+    private static final String SETS_COUNT_COLUMN_LABEL = "sets_count";
+    private static final String REPEATS_COUNT_COLUMN_LABEL = "repeats_count";
+
+    private static final String EMPTY_NAME = "";
+    private static final int NONE_ID = 0;
+    private static final int NO_DAYS_COUNT = 0;
+
+    private static final int ID_POSITION = 0;
+    private static final int AUTHOR_ID_POSITION = 1;
+    private static final int PERSONAL_TRAINER_ID_POSITION = 2;
+    private static final int CLIENT_ID_POSITION = 3;
+    private static final int START_DATE_POSITION = 4;
+    private static final int END_DATE_POSITION = 5;
+    private static final int DIET_POSITION = 6;
+
+    private static final ColumnIndexResolver COLUMN_INDEX_RESOLVER = new ColumnIndexResolver(
+            ID_COLUMN_LABEL, AUTHOR_ID_COLUMN_LABEL, PERSONAL_TRAINER_ID_COLUMN_LABEL,
+            CLIENT_ID_COLUMN_LABEL, START_DATE_COLUMN_LABEL, END_DATE_COLUMN_LABEL, DIET_COLUMN_LABEL);
+
+    private static final int FIRST_NAME_POSITION = 0;
+    private static final int LAST_NAME_POSITION = 1;
+    private static final int EXERCISE_ID_POSITION = 2;
+    private static final int DAY_NUMBER_POSITION = 3;
+    private static final int SETS_COUNT_POSITION = 4;
+    private static final int REPEATS_COUNT_POSITION = 5;
+
+    private static final ColumnIndexResolver VIEW_COLUMN_INDEX_RESOLVER = new ColumnIndexResolver(
+            FIRST_NAME_COLUMN_LABEL, LAST_NAME_COLUMN_LABEL, EXERCISE_ID_COLUMN_LABEL,
+            DAY_NUMBER_COLUMN_LABEL, SETS_COUNT_COLUMN_LABEL, REPEATS_COUNT_COLUMN_LABEL);
 
     /**
      * Instantiates a new TrainingProgramDAOImpl.
@@ -51,49 +88,64 @@ public class TrainingProgramDAOImpl extends AbstractDAOImpl<TrainingProgram> {
     }
 
     /**
-     * This method selects client's training program.
+     * This method selects client's last training program with its author's name and exercises by one query.
+     * Every row contains training program and author's name, that are read from the first row,
+     * and one exercise of training program ordered by day number and execution number.
      *
      * @param clientId the client's id.
-     * @return Training program object.
+     * @return TrainingProgramView object or null if client doesn't have training program.
      * @throws DAOException object if execution of query is failed.
      */
-    public TrainingProgram selectClientTrainingProgram(int clientId) throws DAOException {
-        try (PreparedStatement preparedStatement = prepareStatementForQuery(SELECT_CLIENT_TRAINING_PROGRAM_QUERY, clientId)) {
+    public TrainingProgramView selectClientTrainingProgramView(int clientId) throws DAOException {
+        try (PreparedStatement preparedStatement = prepareStatementForQuery(SELECT_CLIENT_TRAINING_PROGRAM_VIEW_QUERY, clientId)) {
             ResultSet resultSet = preparedStatement.executeQuery();
-
-            TrainingProgram trainingProgram = null;
-            if (resultSet.next()) {
-                trainingProgram = buildEntity(resultSet);
+            if (!resultSet.next()) {
+                return null;
             }
 
-            return trainingProgram;
+            int[] columnIndexes = resolveColumnIndexes(resultSet);
+            int[] viewColumnIndexes = VIEW_COLUMN_INDEX_RESOLVER.resolve(resultSet);
+
+            TrainingProgram trainingProgram = buildEntity(resultSet, columnIndexes);
+
+            String firstName = resultSet.getString(viewColumnIndexes[FIRST_NAME_POSITION]);
+            String lastName = resultSet.getString(viewColumnIndexes[LAST_NAME_POSITION]);
+            String authorName = firstName == null ? EMPTY_NAME : String.format("%s %s", firstName, lastName);
+
+            TrainingProgramDraft trainingProgramDraft = new TrainingProgramDraft(NO_DAYS_COUNT);
+            do {
+                int exerciseId = resultSet.getInt(viewColumnIndexes[EXERCISE_ID_POSITION]);
+                if (resultSet.wasNull()) {
+                    break;
+                }
+
+                int dayNumber = resultSet.getInt(viewColumnIndexes[DAY_NUMBER_POSITION]);
+                int setsCount = resultSet.getInt(viewColumnIndexes[SETS_COUNT_POSITION]);
+                int repeatsCount = resultSet.getInt(viewColumnIndexes[REPEATS_COUNT_POSITION]);
+                while (trainingProgramDraft.getDaysCount() < dayNumber) {
+                    trainingProgramDraft.addDay();
+                }
+
+                trainingProgramDraft.addExercise(dayNumber, exerciseId, setsCount, repeatsCount);
+            } while (resultSet.next());
+
+            return new TrainingProgramView(trainingProgram, authorName, trainingProgramDraft);
         } catch (SQLException exception) {
             throw new DAOException(exception.getMessage(), exception);
         }
     }
 
     /**
-     * This method inserts TrainingProgram object and selects its id.
+     * This method inserts TrainingProgram object and gets its generated id.
      *
      * @param trainingProgram the training program.
-     * @return training program's id.
+     * @return training program's id or zero if training program wasn't inserted.
      * @throws DAOException object if execution of query is failed.
      */
     public int insertTrainingProgram(TrainingProgram trainingProgram) throws DAOException {
-        int lastId = 0;
-
         boolean isOperationSuccessful = insert(trainingProgram);
-        if (isOperationSuccessful) {
-            try (Statement statement = connection.createStatement()) {
-                ResultSet resultSet = statement.executeQuery(SELECT_LAST_INSERT_ID_QUERY);
-                if (resultSet.next()) {
-                    lastId = resultSet.getInt(LAST_INSERT_ID_COLUMN_LABEL);
-                }
-            } catch (SQLException exception) {
-                throw new DAOException(exception.getMessage(), exception);
-            }
-        }
-        return lastId;
+
+        return isOperationSuccessful ? trainingProgram.getId() : NONE_ID;
     }
 
     /**
@@ -107,6 +159,24 @@ public class TrainingProgramDAOImpl extends AbstractDAOImpl<TrainingProgram> {
         return executeQuery(DELETE_EXERCISES_FROM_TRAINING_PROGRAM_QUERY, trainingProgramId);
     }
 
+    /**
+     * This method locks row of training program till the end of transaction, so its exercises can't be
+     * saved by another transaction meanwhile.
+     *
+     * @param trainingProgramId the training program id.
+     * @return true if training program exists and false otherwise.
+     * @throws DAOException object if execution of query is failed.
+     */
+    public boolean lockTrainingProgram(int trainingProgramId) throws DAOException {
+        try (PreparedStatement preparedStatement = prepareStatementForQuery(LOCK_TRAINING_PROGRAM_QUERY, trainingProgramId)) {
+            ResultSet resultSet = preparedStatement.executeQuery();
+
+            return resultSet.next();
+        } catch (SQLException exception) {
+            throw new DAOException(exception.getMessage(), exception);
+        }
+    }
+
     /**
      * This method select isPersonalTrainerNeed value for client.
      *
@@ -138,79 +208,57 @@ public class TrainingProgramDAOImpl extends AbstractDAOImpl<TrainingProgram> {
     }
 
     /**
-     * This method gets entity's parameters.
+     * This method binds entity's parameters in order of columns of insert and update queries.
      *
+     * @param binder the parameter binder.
      * @param entity the entity.
-     * @return List object with parameters.
+     * @throws SQLException object if parameter wasn't bound.
      */
     @Override
-    protected List<String> getEntityParameters(TrainingProgram entity) {
-        List<String> parameters = new ArrayList<>();
-
-        int authorId = entity.getAuthorId();
-        String authorIdValue = String.valueOf(authorId);
-        parameters.add(authorIdValue);
-
-        Integer personalTrainerId = entity.getPersonalTrainerId();
-        if (personalTrainerId == null) {
-            parameters.add(NULL_PARAMETER);
-        } else {
-            String personalTrainerIdValue = String.valueOf(personalTrainerId);
-            parameters.add(personalTrainerIdValue);
-        }
-
-        int clientId = entity.getClientId();
-        String clientIdValue = String.valueOf(clientId);
-        parameters.add(clientIdValue);
-
-        Date startDate = entity.getStartDate();
-        String startDateValue = String.valueOf(startDate);
-        parameters.add(startDateValue);
-
-        Date endDate = entity.getEndDate();
-        String endDateValue = String.valueOf(endDate);
-        parameters.add(endDateValue);
-
-        String diet = entity.getDiet();
-        parameters.add(diet);
-
-        return parameters;
+    protected void bindEntityParameters(ParameterBinder binder, TrainingProgram entity) throws SQLException {
+        binder.bindInt(entity.getAuthorId())
+                .bindInteger(entity.getPersonalTrainerId())
+                .bindInt(entity.getClientId())
+                .bindDate(entity.getStartDate())
+                .bindDate(entity.getEndDate())
+                .bindString(entity.getDiet());
     }
 
     /**
      * This method builds TrainingProgram object from ResultSet object.
      *
-     * @param resultSet the result set of statement.
+     * @param resultSet     the result set of statement.
+     * @param columnIndexes the column indexes, that were resolved by column index resolver.
      * @return The TrainingProgram object.
      * @throws DAOException object if execution of query is failed.
      */
     @Override
-    protected TrainingProgram buildEntity(ResultSet resultSet) throws DAOException {
+    protected TrainingProgram buildEntity(ResultSet resultSet, int[] columnIndexes) throws DAOException {
         try {
             TrainingProgram trainingProgram = new TrainingProgram();
 
-            int id = resultSet.getInt(ID_COLUMN_LABEL);
+            int id = resultSet.getInt(columnIndexes[ID_POSITION]);
             trainingProgram.setId(id);
 
-            int authorId = resultSet.getInt(AUTHOR_ID_COLUMN_LABEL);
+            int authorId = resultSet.getInt(columnIndexes[AUTHOR_ID_POSITION]);
             trainingProgram.setAuthorId(authorId);
 
-            Integer personalTrainerId = resultSet.getInt(PERSONAL_TRAINER_ID_COLUMN_LABEL);
+            Integer personalTrainerId = resultSet.getInt(columnIndexes[PERSONAL_TRAINER_ID_POSITION]);
             if (personalTrainerId == 0) {
                 personalTrainerId = null;
             }
             trainingProgram.setPersonalTrainerId(personalTrainerId);
 
-            int clientId = resultSet.getInt(CLIENT_ID_COLUMN_LABEL);
+            int clientId = resultSet.getInt(columnIndexes[CLIENT_ID_POSITION]);
             trainingProgram.setClientId(clientId);
 
-            Date startDate = resultSet.getDate(START_DATE_COLUMN_LABEL);
+            Date startDate = resultSet.getDate(columnIndexes[START_DATE_POSITION]);
             trainingProgram.setStartDate(startDate);
 
-            Date endDate = resultSet.getDate(END_DATE_COLUMN_LABEL);
+            Date endDate = resultSet.getDate(columnIndexes[END_DATE_POSITION]);
             trainingProgram.setEndDate(endDate);
 
-            String diet = resultSet.getString(DIET_COLUMN_LABEL);
+            String diet = resultSet.getString(columnIndexes[DIET_POSITION]);
             trainingProgram.setDiet(diet);
 
             return trainingProgram;
@@ -219,6 +267,16 @@ public class TrainingProgramDAOImpl extends AbstractDAOImpl<TrainingProgram> {
         }
     }
 
+    /**
+     * This method gets resolver of entity's column indexes.
+     *
+     * @return the column index resolver.
+     */
+    @Override
+    protected ColumnIndexResolver getColumnIndexResolver() {
+        return COLUMN_INDEX_RESOLVER;
+    }
+
     /**
      * This method initialize queries for common operations.
      *
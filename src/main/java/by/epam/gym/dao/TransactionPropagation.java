@@ -0,0 +1,25 @@
+package by.epam.gym.dao;
+
+/**
+ * Propagation of connection manager, that defines what happens when connection manager is created
+ * while another one is open in the same thread.
+ *
+ * @author Eugene Makarenko
+ * @see ConnectionManager
+ */
+public enum TransactionPropagation {
+
+    /**
+     * Connection manager joins connection and transaction of open connection manager. New connection is taken
+     * from pool only if there isn't open connection manager.
+     */
+    REQUIRED,
+
+    /**
+     * Connection manager always takes new connection from pool, so its transaction doesn't depend on transaction
+     * of open connection manager. Open connection is held until new one is returned, so it must be used only
+     * for short independent work.
+     */
+    REQUIRES_NEW
+
+}
@@ -5,7 +5,7 @@ import by.epam.gym.entities.user.UserRole;
 import by.epam.gym.exceptions.DAOException;
 
 import java.sql.*;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -29,17 +29,15 @@ public class UserDAOImpl extends AbstractDAOImpl<User> {
     private static final String UPDATE_ENTITY_QUERY = "UPDATE users SET login=?, password=?, role=?, first_name=?, last_name=? WHERE id=?";
 
     private static final String SELECT_USER_BY_LOGIN_AND_PASSWORD_QUERY = "SELECT * FROM users WHERE login=? AND password=?";
-    private static final String SELECT_USERS_BY_LOGIN_QUERY = "SELECT * FROM users WHERE login=?";
+    private static final String SELECT_LOGIN_EXISTENCE_QUERY = "SELECT 1 FROM users WHERE login=? LIMIT 1";
     private static final String SELECT_CLIENTS_BY_FULL_NAME_QUERY = "SELECT * FROM users WHERE first_name=? AND last_name=? AND role='CLIENT'";
     private static final String SELECT_CLIENTS_BY_NAME_PART_QUERY = "SELECT * FROM users WHERE role='CLIENT' AND first_name LIKE ? OR last_name LIKE ?";
-    private static final String SELECT_USERS_BY_FOUND_ROWS_QUERY = "SELECT SQL_CALC_FOUND_ROWS * FROM users WHERE role='CLIENT' LIMIT %d, %d";
-    private static final String SELECT_FOUND_ROWS_QUERY = "SELECT FOUND_ROWS()";
+    private static final String SELECT_CLIENTS_AFTER_ID_QUERY = "SELECT * FROM users WHERE role='CLIENT' AND id>? ORDER BY id LIMIT ?";
+    private static final String SELECT_CLIENTS_BEFORE_ID_QUERY = "SELECT * FROM users WHERE role='CLIENT' AND id<? ORDER BY id DESC LIMIT ?";
+    private static final String SELECT_CLIENTS_COUNT_QUERY = "SELECT COUNT(*) FROM users WHERE role='CLIENT'";
     private static final String SELECT_PERSONAL_CLIENTS = "SELECT * FROM users WHERE id IN " +
             "(SELECT client_id FROM training_programs WHERE personal_trainer_id=? AND end_date > CURDATE())";
 
-    private static final String SELECT_TRAINING_PROGRAM_AUTHOR_NAME_QUERY = "SELECT first_name, last_name FROM users WHERE id IN" +
-            " (SELECT author_id FROM training_programs WHERE id=?)";
-
     private static final String SELECT_CLIENT_ID_AND_NAME_FOR_TRAINING_PROGRAM_CREATION_QUERY = "call SELECT_ACTUAL_CLIENT()";
 
     private static final String LOGIN_COLUMN_LABEL = "login";
@@ -50,9 +48,16 @@ public class UserDAOImpl extends AbstractDAOImpl<User> {
 
     private static final int FIRST_COLUMN_INDEX = 1;
 
-    private static final String EMPTY_NAME = "";
+    private static final int ID_POSITION = 0;
+    private static final int LOGIN_POSITION = 1;
+    private static final int PASSWORD_POSITION = 2;
+    private static final int ROLE_POSITION = 3;
+    private static final int FIRST_NAME_POSITION = 4;
+    private static final int LAST_NAME_POSITION = 5;
 
-    private int numberOfRecords;
+    private static final ColumnIndexResolver COLUMN_INDEX_RESOLVER = new ColumnIndexResolver(
+            ID_COLUMN_LABEL, LOGIN_COLUMN_LABEL, PASSWORD_COLUMN_LABEL, ROLE_COLUMN_LABEL,
+            FIRST_NAME_COLUMN_LABEL, LAST_NAME_COLUMN_LABEL);
 
     /**
      * Instantiates a new UserDAOImpl.
@@ -63,15 +68,6 @@ public class UserDAOImpl extends AbstractDAOImpl<User> {
         super(connection);
     }
 
-    /**
-     * Gets number of records.
-     *
-     * @return the number of records.
-     */
-    public int getNumberOfRecords() {
-        return numberOfRecords;
-    }
-
     /**
      * This method selects user in database by it's login and password.
      *
@@ -96,14 +92,15 @@ public class UserDAOImpl extends AbstractDAOImpl<User> {
     }
 
     /**
-     * This method checks user's login for unique.
+     * This method checks user's login for unique. Only existence of login is checked by unique index,
+     * user isn't read.
      *
      * @param login the user's login.
-     * @return true if login is unique, else returns false.
+     * @return true if login is already taken, else returns false.
      * @throws DAOException object if execution of query is failed.
      */
     public boolean checkLoginForUnique(String login) throws DAOException {
-        try (PreparedStatement preparedStatement = prepareStatementForQuery(SELECT_USERS_BY_LOGIN_QUERY, login)) {
+        try (PreparedStatement preparedStatement = prepareStatementForQuery(SELECT_LOGIN_EXISTENCE_QUERY, login)) {
             ResultSet resultSet = preparedStatement.executeQuery();
 
             return resultSet.next();
@@ -124,12 +121,7 @@ public class UserDAOImpl extends AbstractDAOImpl<User> {
         try (PreparedStatement preparedStatement = prepareStatementForQuery(SELECT_CLIENTS_BY_FULL_NAME_QUERY, firstName, lastName)) {
             ResultSet resultSet = preparedStatement.executeQuery();
 
-            List<User> findUsers = new ArrayList<>();
-            while (resultSet.next()) {
-                User user = buildEntity(resultSet);
-
-                findUsers.add(user);
-            }
+            List<User> findUsers = buildEntities(resultSet);
 
             return findUsers;
         } catch (SQLException exception) {
@@ -150,12 +142,7 @@ public class UserDAOImpl extends AbstractDAOImpl<User> {
             preparedStatement.setString(2, name);
             ResultSet resultSet = preparedStatement.executeQuery();
 
-            List<User> findUsers = new ArrayList<>();
-            while (resultSet.next()) {
-                User user = buildEntity(resultSet);
-
-                findUsers.add(user);
-            }
+            List<User> findUsers = buildEntities(resultSet);
 
             return findUsers;
         } catch (SQLException exception) {
@@ -164,50 +151,36 @@ public class UserDAOImpl extends AbstractDAOImpl<User> {
     }
 
     /**
-     * This method select all clients in database.
+     * This method selects page of clients, that follow client with chosen id in order of id.
      *
+     * @param lastSeenId      the id of the last client on previous page, zero for the first page.
+     * @param numberOfRecords the max number of clients on page.
      * @return List of clients.
      * @throws DAOException object if execution of query is failed.
      */
-    public List<User> selectAllClientsByFoundRows(int offSet, int numberOfRecords) throws DAOException {
-        try (Statement statement = connection.createStatement()) {
-            String sqlQuery = String.format(SELECT_USERS_BY_FOUND_ROWS_QUERY, offSet, numberOfRecords);
-            ResultSet resultSet = statement.executeQuery(sqlQuery);
-
-            List<User> findUsers = new ArrayList<>();
-            while (resultSet.next()) {
-                User user = buildEntity(resultSet);
-
-                findUsers.add(user);
-            }
-
-            resultSet = statement.executeQuery(SELECT_FOUND_ROWS_QUERY);
-            if (resultSet.next()) {
-                this.numberOfRecords = resultSet.getInt(FIRST_COLUMN_INDEX);
-            }
+    public List<User> selectClientsAfterId(int lastSeenId, int numberOfRecords) throws DAOException {
+        try (PreparedStatement preparedStatement = prepareStatementForQuery(SELECT_CLIENTS_AFTER_ID_QUERY, lastSeenId, numberOfRecords)) {
+            ResultSet resultSet = preparedStatement.executeQuery();
 
-            return findUsers;
+            return buildEntities(resultSet);
         } catch (SQLException exception) {
             throw new DAOException(exception.getMessage(), exception);
         }
     }
 
     /**
-     * This method selects all clients of current trainer and their training programs id .
+     * This method selects page of clients, that precede client with chosen id in order of id.
      *
-     * @param trainerId the trainer id.
-     * @return List with clients.
+     * @param firstSeenId     the id of the first client on next page.
+     * @param numberOfRecords the max number of clients on page.
+     * @return List of clients in order of id.
      * @throws DAOException object if execution of query is failed.
      */
-    public List<User> selectPersonalClients(int trainerId) throws DAOException {
-        try (PreparedStatement findClientsStatement = prepareStatementForQuery(SELECT_PERSONAL_CLIENTS, trainerId)) {
-            List<User> clients = new ArrayList<>();
-            ResultSet resultSet = findClientsStatement.executeQuery();
-
-            while (resultSet.next()) {
-                User user = buildEntity(resultSet);
-                clients.add(user);
-            }
+    public List<User> selectClientsBeforeId(int firstSeenId, int numberOfRecords) throws DAOException {
+        try (PreparedStatement preparedStatement = prepareStatementForQuery(SELECT_CLIENTS_BEFORE_ID_QUERY, firstSeenId, numberOfRecords)) {
+            ResultSet resultSet = preparedStatement.executeQuery();
+            List<User> clients = buildEntities(resultSet);
+            Collections.reverse(clients);
 
             return clients;
         } catch (SQLException exception) {
@@ -216,24 +189,39 @@ public class UserDAOImpl extends AbstractDAOImpl<User> {
     }
 
     /**
-     * This method selects training program author name.
+     * This method counts clients in database.
      *
-     * @param trainingProgramId the training program id.
-     * @return the name of author.
+     * @return the number of clients.
      * @throws DAOException object if execution of query is failed.
      */
-    public String selectTrainingProgramAuthorName(int trainingProgramId) throws DAOException {
-        try (PreparedStatement preparedStatement = prepareStatementForQuery(SELECT_TRAINING_PROGRAM_AUTHOR_NAME_QUERY, trainingProgramId)) {
+    public int selectClientsCount() throws DAOException {
+        try (PreparedStatement preparedStatement = prepareStatementForQuery(SELECT_CLIENTS_COUNT_QUERY)) {
             ResultSet resultSet = preparedStatement.executeQuery();
 
+            int clientsCount = 0;
             if (resultSet.next()) {
-                String firstName = resultSet.getString(FIRST_NAME_COLUMN_LABEL);
-                String lastName = resultSet.getString(LAST_NAME_COLUMN_LABEL);
-
-                return String.format("%s %s", firstName, lastName);
-            } else {
-                return EMPTY_NAME;
+                clientsCount = resultSet.getInt(FIRST_COLUMN_INDEX);
             }
+
+            return clientsCount;
+        } catch (SQLException exception) {
+            throw new DAOException(exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * This method selects all clients of current trainer and their training programs id .
+     *
+     * @param trainerId the trainer id.
+     * @return List with clients.
+     * @throws DAOException object if execution of query is failed.
+     */
+    public List<User> selectPersonalClients(int trainerId) throws DAOException {
+        try (PreparedStatement findClientsStatement = prepareStatementForQuery(SELECT_PERSONAL_CLIENTS, trainerId)) {
+            ResultSet resultSet = findClientsStatement.executeQuery();
+            List<User> clients = buildEntities(resultSet);
+
+            return clients;
         } catch (SQLException exception) {
             throw new DAOException(exception.getMessage(), exception);
         }
@@ -267,63 +255,51 @@ public class UserDAOImpl extends AbstractDAOImpl<User> {
     }
 
     /**
-     * This method gets entity's parameters.
+     * This method binds entity's parameters in order of columns of insert and update queries.
      *
+     * @param binder the parameter binder.
      * @param entity the entity.
-     * @return List object with parameters.
+     * @throws SQLException object if parameter wasn't bound.
      */
     @Override
-    protected List<String> getEntityParameters(User entity) {
-        List<String> parameters = new ArrayList<>();
-
-        String login = entity.getLogin();
-        parameters.add(login);
-
-        String password = entity.getPassword();
-        parameters.add(password);
-
-        UserRole role = entity.getUserRole();
-        String roleValue = String.valueOf(role);
-        parameters.add(roleValue);
-
-        String firstName = entity.getFirstName();
-        parameters.add(firstName);
-
-        String lastName = entity.getLastName();
-        parameters.add(lastName);
-
-        return parameters;
+    protected void bindEntityParameters(ParameterBinder binder, User entity) throws SQLException {
+        binder.bindString(entity.getLogin())
+                .bindString(entity.getPassword())
+                .bindEnum(entity.getUserRole())
+                .bindString(entity.getFirstName())
+                .bindString(entity.getLastName());
     }
 
     /**
      * This method builds User object from ResultSet object.
      *
-     * @param resultSet the result set of statement.
+     * @param resultSet     the result set of statement.
+     * @param columnIndexes the column indexes, that were resolved by column index resolver.
      * @return The User object.
      * @throws DAOException object if execution of query is failed.
      */
     @Override
-    protected User buildEntity(ResultSet resultSet) throws DAOException {
+    protected User buildEntity(ResultSet resultSet, int[] columnIndexes) throws DAOException {
         try {
             User user = new User();
 
-            int id = resultSet.getInt(ID_COLUMN_LABEL);
+            int id = resultSet.getInt(columnIndexes[ID_POSITION]);
             user.setId(id);
 
-            String login = resultSet.getString(LOGIN_COLUMN_LABEL);
+            String login = resultSet.getString(columnIndexes[LOGIN_POSITION]);
             user.setLogin(login);
 
-            String password = resultSet.getString(PASSWORD_COLUMN_LABEL);
+            String password = resultSet.getString(columnIndexes[PASSWORD_POSITION]);
             user.setPassword(password);
 
-            String userRoleValue = resultSet.getString(ROLE_COLUMN_LABEL);
+            String userRoleValue = resultSet.getString(columnIndexes[ROLE_POSITION]);
             UserRole userRole = UserRole.valueOf(userRoleValue);
             user.setUserRole(userRole);
 
-            String firstName = resultSet.getString(FIRST_NAME_COLUMN_LABEL);
+            String firstName = resultSet.getString(columnIndexes[FIRST_NAME_POSITION]);
             user.setFirstName(firstName);
 
-            String lastName = resultSet.getString(LAST_NAME_COLUMN_LABEL);
+            String lastName = resultSet.getString(columnIndexes[LAST_NAME_POSITION]);
             user.setLastName(lastName);
 
             return user;
@@ -332,6 +308,16 @@ public class UserDAOImpl extends AbstractDAOImpl<User> {
         }
     }
 
+    /**
+     * This method gets resolver of entity's column indexes.
+     *
+     * @return the column index resolver.
+     */
+    @Override
+    protected ColumnIndexResolver getColumnIndexResolver() {
+        return COLUMN_INDEX_RESOLVER;
+    }
+
     /**
      * This method initialize queries for common operations.
      *
@@ -0,0 +1,267 @@
+package by.epam.gym.entities;
+
+import by.epam.gym.entities.exercise.Exercise;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * Class describes training program, that is being created or edited in session.
+ * <p>
+ * Draft keeps only ids and counts of exercises packed into int array, one row of five numbers per exercise:
+ * exercise id, day number, sets count, repeats count and execution number. Rows are ordered by day number
+ * and execution number. Names and descriptions of exercises are taken from exercise catalogue when draft is shown.
+ *
+ * @author Eugene Makarenko
+ * @see TrainingProgram
+ * @see Exercise
+ */
+public class TrainingProgramDraft implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int EXERCISE_ID_OFFSET = 0;
+    private static final int DAY_NUMBER_OFFSET = 1;
+    private static final int SETS_COUNT_OFFSET = 2;
+    private static final int REPEATS_COUNT_OFFSET = 3;
+    private static final int EXECUTION_NUMBER_OFFSET = 4;
+    private static final int ROW_LENGTH = 5;
+
+    private static final int INITIAL_ROWS_CAPACITY = 16;
+    private static final int FIRST_DAY_NUMBER = 1;
+    private static final int FIRST_EXECUTION_NUMBER = 1;
+    private static final int NOT_FOUND_INDEX = -1;
+
+    private int daysCount;
+    private int exercisesCount;
+    private int[] exercises;
+
+    /**
+     * Instantiates a new TrainingProgramDraft with empty days.
+     *
+     * @param daysCount the days count.
+     */
+    public TrainingProgramDraft(int daysCount) {
+        this.daysCount = daysCount;
+        this.exercises = new int[INITIAL_ROWS_CAPACITY * ROW_LENGTH];
+    }
+
+    /**
+     * Gets days count.
+     *
+     * @return the days count.
+     */
+    public int getDaysCount() {
+        return daysCount;
+    }
+
+    /**
+     * This method checks if day with such number is in draft.
+     *
+     * @param dayNumber the day number.
+     * @return true if day number is from first day to days count and false otherwise.
+     */
+    public boolean containsDay(int dayNumber) {
+        return dayNumber >= FIRST_DAY_NUMBER && dayNumber <= daysCount;
+    }
+
+    /**
+     * This method finds count of exercises in day.
+     *
+     * @param dayNumber the day number.
+     * @return the exercises count.
+     */
+    public int getExercisesCount(int dayNumber) {
+        int count = 0;
+        for (int offset = 0; offset < exercisesCount * ROW_LENGTH; offset += ROW_LENGTH) {
+            if (exercises[offset + DAY_NUMBER_OFFSET] == dayNumber) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * This method checks if exercise is in day.
+     *
+     * @param dayNumber  the day number.
+     * @param exerciseId the exercise's id.
+     * @return true if exercise is in day and false otherwise.
+     */
+    public boolean containsExercise(int dayNumber, int exerciseId) {
+        return findRowOffset(dayNumber, exerciseId) != NOT_FOUND_INDEX;
+    }
+
+    /**
+     * This method adds exercise to the end of day.
+     *
+     * @param dayNumber    the day number.
+     * @param exerciseId   the exercise's id.
+     * @param setsCount    the sets count.
+     * @param repeatsCount the repeats count.
+     * @return true if exercise was added and false if there isn't such day.
+     */
+    public boolean addExercise(int dayNumber, int exerciseId, int setsCount, int repeatsCount) {
+        if (!containsDay(dayNumber)) {
+            return false;
+        }
+
+        int insertOffset = 0;
+        int executionNumber = FIRST_EXECUTION_NUMBER;
+        for (int offset = 0; offset < exercisesCount * ROW_LENGTH; offset += ROW_LENGTH) {
+            int currentDayNumber = exercises[offset + DAY_NUMBER_OFFSET];
+            if (currentDayNumber > dayNumber) {
+                break;
+            }
+            if (currentDayNumber == dayNumber) {
+                executionNumber++;
+            }
+            insertOffset = offset + ROW_LENGTH;
+        }
+
+        int length = exercisesCount * ROW_LENGTH;
+        if (length == exercises.length) {
+            exercises = Arrays.copyOf(exercises, length * 2);
+        }
+        System.arraycopy(exercises, insertOffset, exercises, insertOffset + ROW_LENGTH, length - insertOffset);
+
+        exercises[insertOffset + EXERCISE_ID_OFFSET] = exerciseId;
+        exercises[insertOffset + DAY_NUMBER_OFFSET] = dayNumber;
+        exercises[insertOffset + SETS_COUNT_OFFSET] = setsCount;
+        exercises[insertOffset + REPEATS_COUNT_OFFSET] = repeatsCount;
+        exercises[insertOffset + EXECUTION_NUMBER_OFFSET] = executionNumber;
+        exercisesCount++;
+
+        return true;
+    }
+
+    /**
+     * This method changes sets count and repeats count of exercise.
+     *
+     * @param dayNumber    the day number.
+     * @param exerciseId   the exercise's id.
+     * @param setsCount    the sets count.
+     * @param repeatsCount the repeats count.
+     * @return true if exercise was found and false otherwise.
+     */
+    public boolean editExercise(int dayNumber, int exerciseId, int setsCount, int repeatsCount) {
+        int rowOffset = findRowOffset(dayNumber, exerciseId);
+        if (rowOffset == NOT_FOUND_INDEX) {
+            return false;
+        }
+
+        exercises[rowOffset + SETS_COUNT_OFFSET] = setsCount;
+        exercises[rowOffset + REPEATS_COUNT_OFFSET] = repeatsCount;
+
+        return true;
+    }
+
+    /**
+     * This method deletes exercise from day. Next exercises of this day are moved up.
+     *
+     * @param dayNumber  the day number.
+     * @param exerciseId the exercise's id.
+     * @return true if exercise was found and false otherwise.
+     */
+    public boolean deleteExercise(int dayNumber, int exerciseId) {
+        int rowOffset = findRowOffset(dayNumber, exerciseId);
+        if (rowOffset == NOT_FOUND_INDEX) {
+            return false;
+        }
+
+        int length = exercisesCount * ROW_LENGTH;
+        System.arraycopy(exercises, rowOffset + ROW_LENGTH, exercises, rowOffset, length - rowOffset - ROW_LENGTH);
+        exercisesCount--;
+
+        for (int offset = rowOffset; offset < exercisesCount * ROW_LENGTH; offset += ROW_LENGTH) {
+            if (exercises[offset + DAY_NUMBER_OFFSET] != dayNumber) {
+                break;
+            }
+            exercises[offset + EXECUTION_NUMBER_OFFSET]--;
+        }
+
+        return true;
+    }
+
+    /**
+     * This method adds empty day to the end of training program.
+     *
+     * @return number of added day.
+     */
+    public int addDay() {
+        return ++daysCount;
+    }
+
+    /**
+     * This method deletes day with its exercises. Next days are moved up.
+     *
+     * @param dayNumber the day number.
+     * @return true if day was deleted and false if there isn't such day.
+     */
+    public boolean deleteDay(int dayNumber) {
+        if (!containsDay(dayNumber)) {
+            return false;
+        }
+
+        int length = exercisesCount * ROW_LENGTH;
+        int targetOffset = 0;
+        for (int offset = 0; offset < length; offset += ROW_LENGTH) {
+            int currentDayNumber = exercises[offset + DAY_NUMBER_OFFSET];
+            if (currentDayNumber == dayNumber) {
+                continue;
+            }
+
+            System.arraycopy(exercises, offset, exercises, targetOffset, ROW_LENGTH);
+            if (currentDayNumber > dayNumber) {
+                exercises[targetOffset + DAY_NUMBER_OFFSET]--;
+            }
+            targetOffset += ROW_LENGTH;
+        }
+
+        exercisesCount = targetOffset / ROW_LENGTH;
+        daysCount--;
+
+        return true;
+    }
+
+    /**
+     * This method builds days and exercises of draft. Exercises have only id, day number, sets count,
+     * repeats count and execution number.
+     *
+     * @return TreeMap object with day number and exercises in that day.
+     */
+    public TreeMap<Integer, List<Exercise>> getDaysAndExercises() {
+        TreeMap<Integer, List<Exercise>> daysAndExercises = new TreeMap<>();
+        for (int dayNumber = FIRST_DAY_NUMBER; dayNumber <= daysCount; dayNumber++) {
+            List<Exercise> dayExercises = new ArrayList<>();
+            daysAndExercises.put(dayNumber, dayExercises);
+        }
+
+        for (int offset = 0; offset < exercisesCount * ROW_LENGTH; offset += ROW_LENGTH) {
+            Exercise exercise = new Exercise();
+            exercise.setId(exercises[offset + EXERCISE_ID_OFFSET]);
+            exercise.setDayNumber(exercises[offset + DAY_NUMBER_OFFSET]);
+            exercise.setSetsCount(exercises[offset + SETS_COUNT_OFFSET]);
+            exercise.setRepeatsCount(exercises[offset + REPEATS_COUNT_OFFSET]);
+            exercise.setExecutionNumber(exercises[offset + EXECUTION_NUMBER_OFFSET]);
+
+            List<Exercise> dayExercises = daysAndExercises.get(exercise.getDayNumber());
+            if (dayExercises != null) {
+                dayExercises.add(exercise);
+            }
+        }
+
+        return daysAndExercises;
+    }
+
+    private int findRowOffset(int dayNumber, int exerciseId) {
+        for (int offset = 0; offset < exercisesCount * ROW_LENGTH; offset += ROW_LENGTH) {
+            if (exercises[offset + DAY_NUMBER_OFFSET] == dayNumber && exercises[offset + EXERCISE_ID_OFFSET] == exerciseId) {
+                return offset;
+            }
+        }
+
+        return NOT_FOUND_INDEX;
+    }
+}
@@ -0,0 +1,56 @@
+package by.epam.gym.entities;
+
+/**
+ * Class describes training program with everything, that is shown on its page: the program itself,
+ * name of its author and its exercises.
+ *
+ * @author Eugene Makarenko
+ * @see TrainingProgram
+ * @see TrainingProgramDraft
+ */
+public class TrainingProgramView {
+
+    private final TrainingProgram trainingProgram;
+    private final String authorName;
+    private final TrainingProgramDraft trainingProgramDraft;
+
+    /**
+     * Instantiates a new TrainingProgramView.
+     *
+     * @param trainingProgram      the training program.
+     * @param authorName           the author's name.
+     * @param trainingProgramDraft the draft with exercises of training program.
+     */
+    public TrainingProgramView(TrainingProgram trainingProgram, String authorName, TrainingProgramDraft trainingProgramDraft) {
+        this.trainingProgram = trainingProgram;
+        this.authorName = authorName;
+        this.trainingProgramDraft = trainingProgramDraft;
+    }
+
+    /**
+     * Gets training program.
+     *
+     * @return the training program.
+     */
+    public TrainingProgram getTrainingProgram() {
+        return trainingProgram;
+    }
+
+    /**
+     * Gets author's name.
+     *
+     * @return the author's name.
+     */
+    public String getAuthorName() {
+        return authorName;
+    }
+
+    /**
+     * Gets draft with exercises of training program.
+     *
+     * @return the training program draft.
+     */
+    public TrainingProgramDraft getTrainingProgramDraft() {
+        return trainingProgramDraft;
+    }
+}
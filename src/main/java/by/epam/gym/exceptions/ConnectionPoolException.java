@@ -0,0 +1,56 @@
+package by.epam.gym.exceptions;
+
+/**
+ * The type of checked exception that thrown from connection pool.
+ *
+ * @author Eugene Makarenko
+ * @see Exception
+ */
+public class ConnectionPoolException extends Exception {
+
+    /**
+     * Instantiates a new ConnectionPoolException.
+     */
+    public ConnectionPoolException() {
+    }
+
+    /**
+     * Instantiates a new ConnectionPoolException.
+     *
+     * @param message the message.
+     */
+    public ConnectionPoolException(String message) {
+        super(message);
+    }
+
+    /**
+     * Instantiates a new ConnectionPoolException.
+     *
+     * @param message the message.
+     * @param cause   the cause.
+     */
+    public ConnectionPoolException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    /**
+     * Instantiates a new ConnectionPoolException.
+     *
+     * @param cause the cause.
+     */
+    public ConnectionPoolException(Throwable cause) {
+        super(cause);
+    }
+
+    /**
+     * Instantiates a new ConnectionPoolException.
+     *
+     * @param message            the message.
+     * @param cause              the cause.
+     * @param enableSuppression  the enable suppression.
+     * @param writableStackTrace the writable stack trace.
+     */
+    public ConnectionPoolException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
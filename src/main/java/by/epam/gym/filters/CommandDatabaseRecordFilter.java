@@ -1,5 +1,6 @@
 package by.epam.gym.filters;
 
+import by.epam.gym.commands.CommandType;
 import org.apache.log4j.Logger;
 
 import javax.servlet.*;
@@ -7,10 +8,10 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
 
-import static by.epam.gym.commands.ActionCommand.COMMAND_PARAMETER;
 import static by.epam.gym.commands.ActionCommand.IS_RECORD_INSERTED;
 
 /**
@@ -24,25 +25,14 @@ public class CommandDatabaseRecordFilter implements Filter {
 
     private static final String REDIRECT_PAGE_PATH = "REDIRECT_PAGE";
 
-    private static final String REGISTER_COMMAND = "common_register";
-    private static final String ADD_FEEDBACK_COMMAND = "client_add_feedback";
-    private static final String PAY_ORDER_COMMAND = "client_pay_order";
-    private static final String REFUSE_TRAINING_PROGRAM_COMMAND = "client_refuse_training_program";
-    private static final String SAVE_TRAINING_PROGRAM_EDIT_COMMAND = "special_save_training_program_edit";
-    private static final String FINISH_TRAINING_PROGRAM_CREATION_COMMAND = "trainer_finish_training_program_creation";
-    private static final String CREATE_EXERCISE_COMMAND = "trainer_create_exercise";
-
-    private static final List<String> commands = new ArrayList<>();
-
-    static {
-        commands.add(REGISTER_COMMAND);
-        commands.add(ADD_FEEDBACK_COMMAND);
-        commands.add(PAY_ORDER_COMMAND);
-        commands.add(REFUSE_TRAINING_PROGRAM_COMMAND);
-        commands.add(SAVE_TRAINING_PROGRAM_EDIT_COMMAND);
-        commands.add(FINISH_TRAINING_PROGRAM_CREATION_COMMAND);
-        commands.add(CREATE_EXERCISE_COMMAND);
-    }
+    private static final Set<CommandType> commands = Collections.unmodifiableSet(EnumSet.of(
+            CommandType.COMMON_REGISTER,
+            CommandType.CLIENT_ADD_FEEDBACK,
+            CommandType.CLIENT_PAY_ORDER,
+            CommandType.CLIENT_REFUSE_TRAINING_PROGRAM,
+            CommandType.SPECIAL_SAVE_TRAINING_PROGRAM_EDIT,
+            CommandType.TRAINER_FINISH_TRAINING_PROGRAM_CREATION,
+            CommandType.TRAINER_CREATE_EXERCISE));
 
     private String redirectPage;
 
@@ -69,14 +59,14 @@ public class CommandDatabaseRecordFilter implements Filter {
     @Override
     public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain) throws IOException, ServletException {
         HttpServletRequest httpServletRequest = (HttpServletRequest) servletRequest;
-        String currentCommand = httpServletRequest.getParameter(COMMAND_PARAMETER);
-        HttpSession session = httpServletRequest.getSession();
+        CommandType commandType = CommandType.defineCommandType(httpServletRequest);
 
-        if (!commands.contains(currentCommand)) {
+        if (commandType == null || !commands.contains(commandType)) {
             filterChain.doFilter(servletRequest, servletResponse);
         } else {
-            if (session.getAttribute(IS_RECORD_INSERTED) != null) {
-                LOGGER.info(String.format("Command - %s can't be invoked again.", currentCommand));
+            HttpSession session = httpServletRequest.getSession(false);
+            if (session != null && session.getAttribute(IS_RECORD_INSERTED) != null) {
+                LOGGER.info(String.format("Command - %s can't be invoked again.", commandType));
 
                 session.removeAttribute(IS_RECORD_INSERTED);
                 HttpServletResponse httpServletResponse = (HttpServletResponse) servletResponse;
@@ -1,5 +1,6 @@
 package by.epam.gym.filters;
 
+import by.epam.gym.commands.CommandType;
 import by.epam.gym.entities.user.User;
 import by.epam.gym.entities.user.UserRole;
 import org.apache.log4j.Logger;
@@ -10,11 +11,11 @@ import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 import java.io.IOException;
 
-import static by.epam.gym.commands.ActionCommand.COMMAND_PARAMETER;
 import static by.epam.gym.commands.ActionCommand.USER_ATTRIBUTE;
 
 /**
- * Filter to follow user's role command.
+ * Filter to follow user's role command. Roles that may invoke command are taken from authorization table
+ * of command types, session isn't created for guests.
  *
  * @author Eugene Makarenko
  */
@@ -24,12 +25,6 @@ public class CommandSecurityFilter implements Filter {
 
     private static final String MAIN_PAGE_PARAMETER = "MAIN_PAGE";
 
-    private static final String TRAINER_COMMAND_PATTERN = "trainer_";
-    private static final String ADMIN_COMMAND_PATTERN = "admin_";
-    private static final String CLIENT_COMMAND_PATTERN = "client_";
-    private static final String COMMON_COMMAND_PATTERN = "common_";
-    private static final String SPECIAL_COMMAND_PATTERN = "special_";
-
     private String redirectPage;
 
     /**
@@ -55,35 +50,35 @@ public class CommandSecurityFilter implements Filter {
     @Override
     public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain) throws IOException, ServletException {
         HttpServletRequest httpServletRequest = (HttpServletRequest) servletRequest;
-        String currentCommand = httpServletRequest.getParameter(COMMAND_PARAMETER);
+        CommandType commandType = CommandType.defineCommandType(httpServletRequest);
 
-        HttpSession session = httpServletRequest.getSession();
-        User user = (User) session.getAttribute(USER_ATTRIBUTE);
+        if (commandType == null || commandType.isGuestAllowed()) {
+            filterChain.doFilter(servletRequest, servletResponse);
+            return;
+        }
+
+        HttpSession session = httpServletRequest.getSession(false);
+        User user = session == null ? null : (User) session.getAttribute(USER_ATTRIBUTE);
 
         HttpServletResponse httpServletResponse = (HttpServletResponse) servletResponse;
-        if (currentCommand.startsWith(COMMON_COMMAND_PATTERN)) {
-            filterChain.doFilter(servletRequest, servletResponse);
+        if (user == null) {
+            LOGGER.warn(String.format("Unexpected action from guest, command=%s.", commandType));
+
+            httpServletResponse.sendRedirect(httpServletRequest.getContextPath() + redirectPage);
         } else {
-            if (user == null) {
-                LOGGER.warn(String.format("Unexpected action from guest, command=%s.", currentCommand));
+            UserRole userRole = user.getUserRole();
+            boolean isAccessTrue = commandType.isAllowedFor(userRole);
+
+            if (!isAccessTrue) {
+                LOGGER.warn(String.format("Unexpected action from user id=%d, command=%s.", user.getId(), commandType));
 
                 httpServletResponse.sendRedirect(httpServletRequest.getContextPath() + redirectPage);
             } else {
-                UserRole userRole = user.getUserRole();
-                boolean isAccessTrue = checkRole(userRole, currentCommand);
-
-                if (!isAccessTrue) {
-                    LOGGER.warn(String.format("Unexpected action from user id=%d, command=%s.", user.getId(), currentCommand));
-
-                    httpServletResponse.sendRedirect(httpServletRequest.getContextPath() + redirectPage);
-                } else {
-                    filterChain.doFilter(servletRequest, servletResponse);
-                }
+                filterChain.doFilter(servletRequest, servletResponse);
             }
         }
     }
 
-
     /**
      * This method cleans filter resources.
      */
@@ -91,26 +86,4 @@ public class CommandSecurityFilter implements Filter {
     public void destroy() {
 
     }
-
-    private boolean checkRole(UserRole userRole, String command) {
-
-        if (command.startsWith(SPECIAL_COMMAND_PATTERN)) {
-            return true;
-        }
-
-        switch (userRole) {
-            case TRAINER: {
-                return command.startsWith(TRAINER_COMMAND_PATTERN);
-            }
-            case CLIENT: {
-                return command.startsWith(CLIENT_COMMAND_PATTERN);
-            }
-            case ADMIN: {
-                return command.startsWith(ADMIN_COMMAND_PATTERN);
-            }
-            default: {
-                return false;
-            }
-        }
-    }
-}
\ No newline at end of file
+}
@@ -1,15 +1,16 @@
 package by.epam.gym.filters;
 
+import by.epam.gym.commands.CommandType;
 import org.apache.log4j.Logger;
 
 import javax.servlet.*;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
 
-import static by.epam.gym.commands.ActionCommand.COMMAND_PARAMETER;
 import static by.epam.gym.commands.ActionCommand.IS_RECORD_INSERTED;
 
 /**
@@ -26,23 +27,12 @@ public class InsertFlagCleanFilter implements Filter {
     private static final String REGISTER_PAGE = "register.jsp";
     private static final String CREATE_EXERCISE_PAGE = "create_exercise.jsp";
 
-    private static final String EDIT_TRAINING_PROGRAM_COMMAND = "special_edit_training_program";
-    private static final String CREATE_TRAINING_PROGRAM_COMMAND = "trainer_create_training_program";
-    private static final String LOGIN_COMMAND = "common_login";
+    private static final String[] pages = {ADD_FEEDBACK_PAGE, PREPARE_ORDER_PAGE, REGISTER_PAGE, CREATE_EXERCISE_PAGE};
 
-    private static final List<String> pages = new ArrayList<>();
-    private static final List<String> commands = new ArrayList<>();
-
-    static {
-        pages.add(ADD_FEEDBACK_PAGE);
-        pages.add(PREPARE_ORDER_PAGE);
-        pages.add(REGISTER_PAGE);
-        pages.add(CREATE_EXERCISE_PAGE);
-
-        commands.add(EDIT_TRAINING_PROGRAM_COMMAND);
-        commands.add(CREATE_TRAINING_PROGRAM_COMMAND);
-        commands.add(LOGIN_COMMAND);
-    }
+    private static final Set<CommandType> commands = Collections.unmodifiableSet(EnumSet.of(
+            CommandType.SPECIAL_EDIT_TRAINING_PROGRAM,
+            CommandType.TRAINER_CREATE_TRAINING_PROGRAM,
+            CommandType.COMMON_LOGIN));
 
     /**
      * This method initialize filters object.
@@ -66,19 +56,25 @@ public class InsertFlagCleanFilter implements Filter {
     @Override
     public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain) throws IOException, ServletException {
         HttpServletRequest httpServletRequest = (HttpServletRequest) servletRequest;
-        String currentPage = httpServletRequest.getServletPath();
-        HttpSession session = httpServletRequest.getSession();
-        for (String page : pages) {
-            if (currentPage.endsWith(page)) {
-                session.removeAttribute(IS_RECORD_INSERTED);
-                LOGGER.info("Record flag was cleaned successful.");
-                break;
+        HttpSession session = httpServletRequest.getSession(false);
+
+        if (session != null && session.getAttribute(IS_RECORD_INSERTED) != null) {
+            boolean isFlagCleanNeed = false;
+
+            String currentPage = httpServletRequest.getServletPath();
+            for (String page : pages) {
+                if (currentPage.endsWith(page)) {
+                    isFlagCleanNeed = true;
+                    break;
+                }
+            }
+
+            CommandType commandType = CommandType.defineCommandType(httpServletRequest);
+            if (commandType != null && commands.contains(commandType)) {
+                isFlagCleanNeed = true;
             }
-        }
 
-        String currentCommand = httpServletRequest.getParameter(COMMAND_PARAMETER);
-        if (currentCommand != null) {
-            if (commands.contains(currentCommand)) {
+            if (isFlagCleanNeed) {
                 session.removeAttribute(IS_RECORD_INSERTED);
                 LOGGER.info("Record flag was cleaned successful.");
             }
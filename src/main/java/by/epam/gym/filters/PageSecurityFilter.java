@@ -9,8 +9,6 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 import java.io.IOException;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static by.epam.gym.commands.ActionCommand.USER_ATTRIBUTE;
 
@@ -25,11 +23,13 @@ public class PageSecurityFilter implements Filter {
 
     private static final String MAIN_PAGE_PARAMETER = "MAIN_PAGE";
 
-    private static final String TRAINER_PAGE_PATH_PATTERN = ".*/jsp/trainer/.*.jsp";
-    private static final String ADMIN_PAGE_PATH_PATTERN = ".*/jsp/admin/.*.jsp";
-    private static final String CLIENT_PAGE_PATH_PATTERN = ".*/jsp/client/.*.jsp";
-    private static final String COMMON_PAGE_PATH_PATTERN = ".*/jsp/common/.*.jsp*";
-    private static final String SPECIAL_PAGE_PATH_PATTERN = ".*/jsp/special/.*.jsp*";
+    private static final String TRAINER_PAGE_DIRECTORY = "/jsp/trainer/";
+    private static final String ADMIN_PAGE_DIRECTORY = "/jsp/admin/";
+    private static final String CLIENT_PAGE_DIRECTORY = "/jsp/client/";
+    private static final String COMMON_PAGE_DIRECTORY = "/jsp/common/";
+    private static final String SPECIAL_PAGE_DIRECTORY = "/jsp/special/";
+
+    private static final String PAGE_EXTENSION = ".jsp";
 
     private String redirectPage;
 
@@ -59,7 +59,7 @@ public class PageSecurityFilter implements Filter {
         HttpServletResponse httpServletResponse = (HttpServletResponse) servletResponse;
 
         String currentPage = httpServletRequest.getServletPath();
-        boolean isCommonJsp = checkPath(currentPage, COMMON_PAGE_PATH_PATTERN);
+        boolean isCommonJsp = checkPath(currentPage, COMMON_PAGE_DIRECTORY);
         if (isCommonJsp) {
             filterChain.doFilter(servletRequest, servletResponse);
         } else {
@@ -72,7 +72,7 @@ public class PageSecurityFilter implements Filter {
             } else {
                 UserRole currentRole = user.getUserRole();
                 boolean isUserRightRole = checkRole(currentRole, currentPage);
-                boolean isSpecialJsp = checkPath(currentPage, SPECIAL_PAGE_PATH_PATTERN);
+                boolean isSpecialJsp = checkPath(currentPage, SPECIAL_PAGE_DIRECTORY);
 
                 if (!isUserRightRole && !isSpecialJsp) {
                     LOGGER.warn(String.format("Unexpected action from user id=%d, page=%s.", user.getId(), currentPage));
@@ -90,16 +90,23 @@ public class PageSecurityFilter implements Filter {
 
     }
 
+    /**
+     * This method checks that page is in directory of user's role.
+     *
+     * @param userRole the user's role.
+     * @param pagePath the page path.
+     * @return true if user has access to page and false otherwise.
+     */
     private boolean checkRole(UserRole userRole, String pagePath) {
         switch (userRole) {
             case TRAINER: {
-                return checkPath(pagePath, TRAINER_PAGE_PATH_PATTERN);
+                return checkPath(pagePath, TRAINER_PAGE_DIRECTORY);
             }
             case CLIENT: {
-                return checkPath(pagePath, CLIENT_PAGE_PATH_PATTERN);
+                return checkPath(pagePath, CLIENT_PAGE_DIRECTORY);
             }
             case ADMIN: {
-                return checkPath(pagePath, ADMIN_PAGE_PATH_PATTERN);
+                return checkPath(pagePath, ADMIN_PAGE_DIRECTORY);
             }
             default: {
                 return false;
@@ -107,10 +114,22 @@ public class PageSecurityFilter implements Filter {
         }
     }
 
-    private boolean checkPath(String path, String pagePattern) {
-        Pattern pattern = Pattern.compile(pagePattern);
-        Matcher matcher = pattern.matcher(path);
+    /**
+     * This method checks that path is a JSP page in directory. Path is checked by index without regular expression,
+     * because it's done for every requested page.
+     *
+     * @param path      the page path.
+     * @param directory the directory.
+     * @return true if page is in directory and false otherwise.
+     */
+    private boolean checkPath(String path, String directory) {
+        int directoryIndex = path.indexOf(directory);
+        if (directoryIndex < 0) {
+            return false;
+        }
+
+        int pageNameStartIndex = directoryIndex + directory.length();
 
-        return matcher.matches();
+        return path.endsWith(PAGE_EXTENSION) && path.length() >= pageNameStartIndex + PAGE_EXTENSION.length();
     }
 }
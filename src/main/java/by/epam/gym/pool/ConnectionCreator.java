@@ -1,16 +1,27 @@
 package by.epam.gym.pool;
 
+import by.epam.gym.exceptions.ConnectionPoolException;
 import org.apache.log4j.Logger;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Properties;
 import java.util.ResourceBundle;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Util class that creates connection to database using file resources.
+ * <p>
+ * Driver is registered once, when class is loaded. Connections of the pool are opened in parallel
+ * by bounded count of threads, so pool creation takes about one handshake time instead of pool size handshakes.
  *
  * @author Eugene Makarenko
  * @see Connection
@@ -22,48 +33,29 @@ public class ConnectionCreator {
     private static final Logger LOGGER = Logger.getLogger(ConnectionCreator.class);
 
     private static final String RESOURCE_BUNDLE_FILE_NAME = "database";
-    private static final String POOL_SIZE_PROPERTY_KEY = "db.poolSize";
     private static final String USER_PROPERTY_KEY = "db.user";
     private static final String PASSWORD_PROPERTY_KEY = "db.password";
     private static final String AUTO_RECONNECT_PROPERTY_KEY = "db.autoReconnect";
     private static final String CHARACTER_ENCODING_PROPERTY_KEY = "db.encoding";
     private static final String UNICODE_PROPERTY_KEY = "db.useUnicode";
     private static final String URL_PROPERTY_KEY = "db.url";
+    private static final String WARM_UP_THREADS_PROPERTY_KEY = "db.warmUpThreads";
+    private static final String SERVER_PREPARED_STATEMENTS_PROPERTY_KEY = "db.useServerPrepStmts";
+    private static final String REWRITE_BATCHED_STATEMENTS_PROPERTY_KEY = "db.rewriteBatchedStatements";
 
     private static final String USER_PROPERTY = "user";
     private static final String PASSWORD_PROPERTY = "password";
     private static final String AUTO_RECONNECT_PROPERTY = "autoReconnect";
     private static final String CHARACTER_ENCODING_PROPERTY = "characterEncoding";
     private static final String UNICODE_PROPERTY = "useUnicode";
+    private static final String SERVER_PREPARED_STATEMENTS_PROPERTY = "useServerPrepStmts";
+    private static final String REWRITE_BATCHED_STATEMENTS_PROPERTY = "rewriteBatchedStatements";
 
-    private final static ResourceBundle RESOURCE_BUNDLE = ResourceBundle.getBundle(RESOURCE_BUNDLE_FILE_NAME);
-
-    /**
-     * Create pool of connections to chosen database.
-     *
-     * @return LinkedList object.
-     */
-    public LinkedList<Connection> createPool() {
-        LinkedList<Connection> pool = new LinkedList<>();
-        String poolSizeValue = RESOURCE_BUNDLE.getString(POOL_SIZE_PROPERTY_KEY);
-        int currentPoolSize = Integer.parseInt(poolSizeValue);
-
-        for (int listIndex = 0; listIndex < currentPoolSize; listIndex++) {
-            Connection connection = create();
+    private static final int DEFAULT_WARM_UP_THREADS = 4;
 
-            pool.addLast(connection);
-        }
-
-        LOGGER.info("Pool was created successful.");
-        return pool;
-    }
+    private final static ResourceBundle RESOURCE_BUNDLE = ResourceBundle.getBundle(RESOURCE_BUNDLE_FILE_NAME);
 
-    /**
-     * Create connection to chosen database using properties.
-     *
-     * @return created connection.
-     */
-    private Connection create() {
+    static {
         try {
             DriverManager.registerDriver(new com.mysql.jdbc.Driver());
             LOGGER.info("Driver was registered successful.");
@@ -71,30 +63,128 @@ public class ConnectionCreator {
             LOGGER.warn("SQL exception was detected during driver registration.");
             throw new ExceptionInInitializerError("Driver hasn't been registered. " + exception.getMessage());
         }
+    }
+
+    private final String connectionUrl;
+    private final Properties properties;
+    private final int warmUpThreadsCount;
+
+    /**
+     * Instantiates a new ConnectionCreator.
+     */
+    public ConnectionCreator() {
+        connectionUrl = RESOURCE_BUNDLE.getString(URL_PROPERTY_KEY);
 
-        String connectionUrlValue = RESOURCE_BUNDLE.getString(URL_PROPERTY_KEY);
         String userValue = RESOURCE_BUNDLE.getString(USER_PROPERTY_KEY);
         String passwordValue = RESOURCE_BUNDLE.getString(PASSWORD_PROPERTY_KEY);
         String autoReconnectValue = RESOURCE_BUNDLE.getString(AUTO_RECONNECT_PROPERTY_KEY);
         String characterEncodingValue = RESOURCE_BUNDLE.getString(CHARACTER_ENCODING_PROPERTY_KEY);
         String unicodeValue = RESOURCE_BUNDLE.getString(UNICODE_PROPERTY_KEY);
 
-        Properties properties = new Properties();
+        properties = new Properties();
         properties.put(USER_PROPERTY, userValue);
         properties.put(PASSWORD_PROPERTY, passwordValue);
         properties.put(AUTO_RECONNECT_PROPERTY, autoReconnectValue);
         properties.put(CHARACTER_ENCODING_PROPERTY, characterEncodingValue);
         properties.put(UNICODE_PROPERTY, unicodeValue);
 
+        if (RESOURCE_BUNDLE.containsKey(SERVER_PREPARED_STATEMENTS_PROPERTY_KEY)) {
+            String serverPreparedStatementsValue = RESOURCE_BUNDLE.getString(SERVER_PREPARED_STATEMENTS_PROPERTY_KEY);
+            properties.put(SERVER_PREPARED_STATEMENTS_PROPERTY, serverPreparedStatementsValue);
+        }
+
+        if (RESOURCE_BUNDLE.containsKey(REWRITE_BATCHED_STATEMENTS_PROPERTY_KEY)) {
+            String rewriteBatchedStatementsValue = RESOURCE_BUNDLE.getString(REWRITE_BATCHED_STATEMENTS_PROPERTY_KEY);
+            properties.put(REWRITE_BATCHED_STATEMENTS_PROPERTY, rewriteBatchedStatementsValue);
+        }
+
+        if (RESOURCE_BUNDLE.containsKey(WARM_UP_THREADS_PROPERTY_KEY)) {
+            String warmUpThreadsValue = RESOURCE_BUNDLE.getString(WARM_UP_THREADS_PROPERTY_KEY);
+            warmUpThreadsCount = Integer.parseInt(warmUpThreadsValue);
+        } else {
+            warmUpThreadsCount = DEFAULT_WARM_UP_THREADS;
+        }
+    }
+
+    /**
+     * Create pool of connections to chosen database. Connections are opened in parallel.
+     * If any of them wasn't opened, already opened connections are closed.
+     *
+     * @param poolSize the count of connections to create.
+     * @return List of created connections.
+     * @throws ConnectionPoolException object if any connection wasn't created.
+     */
+    public List<Connection> createPool(int poolSize) throws ConnectionPoolException {
+        LinkedList<Connection> pool = new LinkedList<>();
+        if (poolSize <= 0) {
+            return pool;
+        }
+
+        int threadsCount = Math.max(1, Math.min(warmUpThreadsCount, poolSize));
+        ExecutorService executorService = Executors.newFixedThreadPool(threadsCount);
+        try {
+            List<Callable<Connection>> tasks = new ArrayList<>(poolSize);
+            for (int taskIndex = 0; taskIndex < poolSize; taskIndex++) {
+                tasks.add(new Callable<Connection>() {
+                    @Override
+                    public Connection call() throws ConnectionPoolException {
+                        return create();
+                    }
+                });
+            }
+
+            ConnectionPoolException failure = null;
+            for (Future<Connection> future : executorService.invokeAll(tasks)) {
+                try {
+                    pool.addLast(future.get());
+                } catch (ExecutionException exception) {
+                    failure = new ConnectionPoolException("Pool hasn't been created. " + exception.getCause().getMessage(), exception.getCause());
+                }
+            }
+
+            if (failure != null) {
+                closeConnections(pool);
+                throw failure;
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            closeConnections(pool);
+            throw new ConnectionPoolException("Pool creation was interrupted.", exception);
+        } finally {
+            executorService.shutdown();
+        }
+
+        LOGGER.info(String.format("Pool of %d connections was created successful.", pool.size()));
+        return pool;
+    }
+
+    /**
+     * Create connection to chosen database using properties.
+     *
+     * @return created connection.
+     * @throws ConnectionPoolException object if connection wasn't created.
+     */
+    public Connection create() throws ConnectionPoolException {
         try {
-            Connection connection = DriverManager.getConnection(connectionUrlValue, properties);
+            Connection connection = DriverManager.getConnection(connectionUrl, properties);
 
             LOGGER.info("Connection was created successful.");
             return connection;
         } catch (SQLException exception) {
             LOGGER.warn("SQL exception was detected during connection creating.");
-            throw new ExceptionInInitializerError("Connection hasn't been created. " + exception.getMessage());
+            throw new ConnectionPoolException("Connection hasn't been created. " + exception.getMessage(), exception);
+        }
+    }
+
+    private void closeConnections(List<Connection> connections) {
+        for (Connection connection : connections) {
+            try {
+                connection.close();
+            } catch (SQLException exception) {
+                LOGGER.error("Exception was detected during connection closing.", exception);
+            }
         }
+        connections.clear();
     }
 
 }
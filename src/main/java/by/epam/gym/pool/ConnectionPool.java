@@ -1,39 +1,184 @@
 package by.epam.gym.pool;
 
+import by.epam.gym.exceptions.ConnectionPoolException;
 import org.apache.log4j.Logger;
 
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.LinkedList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Thread safe connection pool.
+ * <p>
+ * Free connections are kept in lock-free deque. Access to them is bounded by fair semaphore, so
+ * connection returned to pool is passed to the longest waiting thread and waiting is limited by acquire timeout.
+ * Thread, that has got permit while its connection is still being returned or validated, parks until it's put back.
+ * Pool grows on demand up to max pool size, while housekeeping thread closes connections that were idle
+ * longer than idle timeout and keeps at least min idle connections opened.
+ * Connections are validated before borrow and optionally while idle, broken ones are closed and replaced with new.
+ * Every connection has LRU cache of prepared statements, that is closed together with connection.
+ * In lazy start mode pool is available as soon as the first connection is opened, the rest are opened in background.
+ * Pool statistics are registered in platform MBean server. Connection that is held longer than leak detection
+ * threshold is logged together with stack trace of its borrower.
  *
  * @author Eugene Makarenko
- * @see LinkedList
- * @see Lock
+ * @see ConcurrentLinkedDeque
+ * @see Semaphore
  * @see ConnectionCreator
+ * @see ConnectionPoolStatistics
  */
 public class ConnectionPool {
 
     private final static Logger LOGGER = Logger.getLogger(ConnectionPool.class);
 
+    private static final String RESOURCE_BUNDLE_FILE_NAME = "database";
+    private static final String ACQUIRE_TIMEOUT_PROPERTY_KEY = "db.acquireTimeoutMs";
+    private static final String MIN_IDLE_PROPERTY_KEY = "db.minIdle";
+    private static final String MAX_POOL_SIZE_PROPERTY_KEY = "db.maxPoolSize";
+    private static final String IDLE_TIMEOUT_PROPERTY_KEY = "db.idleTimeoutMs";
+    private static final String HOUSEKEEPING_PERIOD_PROPERTY_KEY = "db.housekeepingPeriodMs";
+    private static final String VALIDATION_TIMEOUT_PROPERTY_KEY = "db.validationTimeoutSec";
+    private static final String VALIDATE_ON_BORROW_PROPERTY_KEY = "db.validateOnBorrow";
+    private static final String VALIDATE_WHILE_IDLE_PROPERTY_KEY = "db.validateWhileIdle";
+    private static final String LAZY_START_PROPERTY_KEY = "db.lazyStart";
+    private static final String STATEMENT_CACHE_SIZE_PROPERTY_KEY = "db.statementCacheSize";
+    private static final String LEAK_DETECTION_THRESHOLD_PROPERTY_KEY = "db.leakDetectionThresholdMs";
+
+    private static final long DEFAULT_ACQUIRE_TIMEOUT = 30_000L;
+    private static final int DEFAULT_MIN_IDLE = 2;
+    private static final int DEFAULT_MAX_POOL_SIZE = 10;
+    private static final long DEFAULT_IDLE_TIMEOUT = 600_000L;
+    private static final long DEFAULT_HOUSEKEEPING_PERIOD = 30_000L;
+    private static final long DEFAULT_VALIDATION_TIMEOUT = 3L;
+    private static final int DEFAULT_STATEMENT_CACHE_SIZE = 32;
+    private static final long DEFAULT_LEAK_DETECTION_THRESHOLD = 0L;
+    private static final long MIN_LEAK_DETECTION_PERIOD = 1_000L;
+
+    /**
+     * Connection that was used less than this time ago is considered alive without validation query.
+     */
+    private static final long VALIDATION_BYPASS_TIME = 500L;
+
+    private static final String HOUSEKEEPER_THREAD_NAME = "connection-pool-housekeeper";
+    private static final String STATISTICS_OBJECT_NAME = "by.epam.gym:type=ConnectionPool";
+    private static final String BORROWER_STACK_TRACE_MESSAGE = "Connection was borrowed here.";
+
+    private final static ResourceBundle RESOURCE_BUNDLE = ResourceBundle.getBundle(RESOURCE_BUNDLE_FILE_NAME);
+
     private static Lock instanceLocker = new ReentrantLock();
-    private static Lock poolLocker = new ReentrantLock();
-    private static Condition poolCondition = poolLocker.newCondition();
 
     private static ConnectionPool instance = null;
     private static AtomicBoolean isInstanceAvailable = new AtomicBoolean(true);
 
-    private final LinkedList<Connection> pool;
+    private final long acquireTimeout;
+    private final int minIdle;
+    private final int maxPoolSize;
+    private final long idleTimeout;
+    private final int validationTimeout;
+    private final boolean isValidateOnBorrow;
+    private final boolean isValidateWhileIdle;
+    private final int statementCacheSize;
+    private final long leakDetectionThreshold;
+
+    private final ConnectionCreator connectionCreator;
+    private final Deque<PooledConnection> idleConnections;
+    private final Map<Connection, PooledConnection> borrowedConnections;
+    private final AtomicInteger totalConnections;
+    private final Semaphore availableConnections;
+    private final Lock idleConnectionsLocker;
+    private final Condition idleConnectionAdded;
+    private final AtomicInteger idleConnectionWaitersCount;
+    private final ScheduledExecutorService housekeeper;
+    private final ConnectionPoolStatistics statistics;
 
     private ConnectionPool() {
-        ConnectionCreator connectionCreator = new ConnectionCreator();
-        pool = connectionCreator.createPool();
+        acquireTimeout = readLongProperty(ACQUIRE_TIMEOUT_PROPERTY_KEY, DEFAULT_ACQUIRE_TIMEOUT);
+        minIdle = (int) readLongProperty(MIN_IDLE_PROPERTY_KEY, DEFAULT_MIN_IDLE);
+        maxPoolSize = (int) readLongProperty(MAX_POOL_SIZE_PROPERTY_KEY, DEFAULT_MAX_POOL_SIZE);
+        idleTimeout = readLongProperty(IDLE_TIMEOUT_PROPERTY_KEY, DEFAULT_IDLE_TIMEOUT);
+        long housekeepingPeriod = readLongProperty(HOUSEKEEPING_PERIOD_PROPERTY_KEY, DEFAULT_HOUSEKEEPING_PERIOD);
+        validationTimeout = (int) readLongProperty(VALIDATION_TIMEOUT_PROPERTY_KEY, DEFAULT_VALIDATION_TIMEOUT);
+        isValidateOnBorrow = readBooleanProperty(VALIDATE_ON_BORROW_PROPERTY_KEY, true);
+        isValidateWhileIdle = readBooleanProperty(VALIDATE_WHILE_IDLE_PROPERTY_KEY, false);
+        boolean isLazyStart = readBooleanProperty(LAZY_START_PROPERTY_KEY, false);
+        statementCacheSize = (int) readLongProperty(STATEMENT_CACHE_SIZE_PROPERTY_KEY, DEFAULT_STATEMENT_CACHE_SIZE);
+        leakDetectionThreshold = readLongProperty(LEAK_DETECTION_THRESHOLD_PROPERTY_KEY, DEFAULT_LEAK_DETECTION_THRESHOLD);
+
+        connectionCreator = new ConnectionCreator();
+        idleConnections = new ConcurrentLinkedDeque<>();
+        borrowedConnections = new ConcurrentHashMap<>();
+        totalConnections = new AtomicInteger();
+        availableConnections = new Semaphore(maxPoolSize, true);
+        idleConnectionsLocker = new ReentrantLock();
+        idleConnectionAdded = idleConnectionsLocker.newCondition();
+        idleConnectionWaitersCount = new AtomicInteger();
+        statistics = new ConnectionPoolStatistics(this);
+
+        final int initialPoolSize = Math.min(minIdle, maxPoolSize);
+        final int startPoolSize = isLazyStart ? Math.min(1, initialPoolSize) : initialPoolSize;
+        try {
+            totalConnections.set(startPoolSize);
+            addIdleConnections(connectionCreator.createPool(startPoolSize));
+        } catch (ConnectionPoolException exception) {
+            LOGGER.fatal("Connection pool hasn't been created.", exception);
+            throw new ExceptionInInitializerError(exception.getMessage());
+        }
+
+        housekeeper = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, HOUSEKEEPER_THREAD_NAME);
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        housekeeper.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                doHousekeeping();
+            }
+        }, housekeepingPeriod, housekeepingPeriod, TimeUnit.MILLISECONDS);
+
+        if (leakDetectionThreshold > 0) {
+            long leakDetectionPeriod = Math.max(leakDetectionThreshold / 2, MIN_LEAK_DETECTION_PERIOD);
+            housekeeper.scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run() {
+                    detectLeaks();
+                }
+            }, leakDetectionPeriod, leakDetectionPeriod, TimeUnit.MILLISECONDS);
+        }
+
+        if (startPoolSize < initialPoolSize) {
+            housekeeper.execute(new Runnable() {
+                @Override
+                public void run() {
+                    warmUp(initialPoolSize - startPoolSize);
+                }
+            });
+        }
+
+        registerStatistics();
     }
 
     /**
@@ -60,56 +205,418 @@ public class ConnectionPool {
     }
 
     /**
-     * Get and remove connection from pool.
+     * Get and remove connection from pool. If there is no free connection and pool has reached its max size,
+     * waits for returned connection no longer than acquire timeout.
      *
      * @return first connection from pool.
+     * @throws ConnectionPoolException object if connection wasn't got in time or waiting was interrupted.
      */
-    public Connection getConnection() {
-        Connection connection;
-        poolLocker.lock();
-
+    public Connection getConnection() throws ConnectionPoolException {
+        long startTime = System.currentTimeMillis();
         try {
+            boolean isConnectionAvailable = availableConnections.tryAcquire(acquireTimeout, TimeUnit.MILLISECONDS);
 
-            if (pool.isEmpty()) {
-                poolCondition.await();
+            if (!isConnectionAvailable) {
+                statistics.recordTimeout();
+                throw new ConnectionPoolException(String.format("Can't get connection in %d ms.", acquireTimeout));
             }
-
-            connection = pool.poll();
         } catch (InterruptedException exception) {
-            throw new IllegalStateException("Can't get connection. ", exception);
-        } finally {
-            poolLocker.unlock();
+            Thread.currentThread().interrupt();
+            throw new ConnectionPoolException("Can't get connection. ", exception);
         }
 
-        return connection;
+        boolean isConnectionTaken = false;
+        try {
+            PooledConnection pooledConnection = takeConnection(startTime + acquireTimeout);
+
+            long borrowTime = System.currentTimeMillis();
+            Throwable borrowerStackTrace = leakDetectionThreshold > 0 ? new Throwable(BORROWER_STACK_TRACE_MESSAGE) : null;
+            pooledConnection.markBorrowed(borrowTime, borrowerStackTrace);
+            statistics.recordBorrow(borrowTime - startTime);
+
+            Connection connection = pooledConnection.getProxy();
+            borrowedConnections.put(connection, pooledConnection);
+            isConnectionTaken = true;
+
+            return connection;
+        } finally {
+            if (!isConnectionTaken) {
+                availableConnections.release();
+            }
+        }
     }
 
     /**
-     * Adds chosen connection back to pool.
+     * Adds chosen connection back to pool. Closed connection is dropped, so its place is taken by new one.
      *
      * @param connection to database, that was get from pool.
      */
     public void returnConnection(Connection connection) {
-        poolLocker.lock();
+        if (connection == null) {
+            return;
+        }
 
-        try {
-            pool.addLast(connection);
-            poolCondition.signal();
-        } finally {
-            poolLocker.unlock();
+        PooledConnection pooledConnection = borrowedConnections.remove(connection);
+        if (pooledConnection == null) {
+            LOGGER.warn("Connection that doesn't belong to pool was returned.");
+            return;
+        }
+
+        long returnTime = System.currentTimeMillis();
+        long holdTime = returnTime - pooledConnection.getBorrowTime();
+        statistics.recordReturn(holdTime);
+        if (pooledConnection.isLeakReported()) {
+            LOGGER.info(String.format("Connection that was reported as leaked was returned after %d ms.", holdTime));
+        }
+
+        if (isClosed(connection)) {
+            LOGGER.warn("Closed connection was returned to pool and evicted.");
+
+            closeConnection(pooledConnection);
+            availableConnections.release();
+            return;
         }
+
+        pooledConnection.setLastAccessTime(returnTime);
+        idleConnections.offerFirst(pooledConnection);
+        signalIdleConnectionAdded();
+        availableConnections.release();
     }
 
     /**
      * Close all connections in pool.
      */
     public void closePool() {
-        for (Connection connection : pool) {
+        housekeeper.shutdownNow();
+        unregisterStatistics();
+
+        PooledConnection pooledConnection;
+        while ((pooledConnection = idleConnections.pollFirst()) != null) {
+            closeConnection(pooledConnection);
+        }
+
+        for (PooledConnection borrowedConnection : borrowedConnections.values()) {
+            closeConnection(borrowedConnection);
+        }
+        borrowedConnections.clear();
+    }
+
+    /**
+     * Gets statistics of pool.
+     *
+     * @return the statistics.
+     */
+    public ConnectionPoolStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Gets count of opened connections.
+     *
+     * @return the count of connections.
+     */
+    int getTotalConnectionsCount() {
+        return totalConnections.get();
+    }
+
+    /**
+     * Gets count of borrowed connections.
+     *
+     * @return the count of connections.
+     */
+    int getActiveConnectionsCount() {
+        return borrowedConnections.size();
+    }
+
+    /**
+     * Gets count of free connections.
+     *
+     * @return the count of connections.
+     */
+    int getIdleConnectionsCount() {
+        return idleConnections.size();
+    }
+
+    /**
+     * Gets count of threads that wait for connection.
+     *
+     * @return the count of threads.
+     */
+    int getWaitingThreadsCount() {
+        return availableConnections.getQueueLength();
+    }
+
+    private PooledConnection takeConnection(long deadline) throws ConnectionPoolException {
+        while (true) {
+            PooledConnection pooledConnection = idleConnections.pollFirst();
+            if (pooledConnection != null) {
+                if (!isValidateOnBorrow || isAlive(pooledConnection)) {
+                    return pooledConnection;
+                }
+
+                LOGGER.warn("Broken connection was detected during borrow and evicted.");
+                closeConnection(pooledConnection);
+                continue;
+            }
+
+            if (reserveConnection()) {
+                return createConnection();
+            }
+
+            // Pool is full, but idle connection is being returned, validated or evicted right now.
+            awaitIdleConnection(deadline);
+        }
+    }
+
+    private void awaitIdleConnection(long deadline) throws ConnectionPoolException {
+        idleConnectionsLocker.lock();
+        idleConnectionWaitersCount.incrementAndGet();
+        try {
+            while (idleConnections.isEmpty() && totalConnections.get() >= maxPoolSize) {
+                long remainingTime = deadline - System.currentTimeMillis();
+                if (remainingTime <= 0) {
+                    statistics.recordTimeout();
+                    throw new ConnectionPoolException(String.format("Can't get connection in %d ms.", acquireTimeout));
+                }
+
+                idleConnectionAdded.await(remainingTime, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ConnectionPoolException("Can't get connection. ", exception);
+        } finally {
+            idleConnectionWaitersCount.decrementAndGet();
+            idleConnectionsLocker.unlock();
+        }
+    }
+
+    private void signalIdleConnectionAdded() {
+        // Waiters are counted before they check deque, so lock is taken only if somebody may wait.
+        if (idleConnectionWaitersCount.get() == 0) {
+            return;
+        }
+
+        idleConnectionsLocker.lock();
+        try {
+            idleConnectionAdded.signalAll();
+        } finally {
+            idleConnectionsLocker.unlock();
+        }
+    }
+
+    private boolean reserveConnection() {
+        while (true) {
+            int currentCount = totalConnections.get();
+            if (currentCount >= maxPoolSize) {
+                return false;
+            }
+
+            if (totalConnections.compareAndSet(currentCount, currentCount + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private PooledConnection createConnection() throws ConnectionPoolException {
+        try {
+            Connection connection = connectionCreator.create();
+            statistics.recordCreation(1);
+
+            return wrapConnection(connection);
+        } catch (ConnectionPoolException | RuntimeException exception) {
+            totalConnections.decrementAndGet();
+            signalIdleConnectionAdded();
+            throw exception;
+        }
+    }
+
+    private void closeConnection(PooledConnection pooledConnection) {
+        totalConnections.decrementAndGet();
+        signalIdleConnectionAdded();
+
+        StatementCache statementCache = pooledConnection.getStatementCache();
+        statementCache.close();
+        try {
+            Connection connection = pooledConnection.getConnection();
+            connection.close();
+        } catch (SQLException exception) {
+            LOGGER.error("Exception was detected during connection closing.", exception);
+        }
+    }
+
+    private void doHousekeeping() {
+        try {
+            evictIdleConnections();
+            if (isValidateWhileIdle) {
+                validateIdleConnections();
+            }
+            fillIdleConnections();
+        } catch (RuntimeException exception) {
+            LOGGER.error("Exception was detected during pool housekeeping.", exception);
+        }
+    }
+
+    private void warmUp(int connectionsCount) {
+        int reservedCount = 0;
+        while (reservedCount < connectionsCount && reserveConnection()) {
+            reservedCount++;
+        }
+
+        try {
+            addIdleConnections(connectionCreator.createPool(reservedCount));
+            LOGGER.info(String.format("Connection pool was warmed up in background with %d connections.", reservedCount));
+        } catch (ConnectionPoolException exception) {
+            totalConnections.addAndGet(-reservedCount);
+            signalIdleConnectionAdded();
+            LOGGER.warn("Connection pool wasn't warmed up, connections will be opened on demand.", exception);
+        }
+    }
+
+    private void addIdleConnections(List<Connection> connections) {
+        statistics.recordCreation(connections.size());
+        for (Connection connection : connections) {
+            idleConnections.offerLast(wrapConnection(connection));
+        }
+        signalIdleConnectionAdded();
+    }
+
+    private PooledConnection wrapConnection(Connection connection) {
+        StatementCache statementCache = new StatementCache(statementCacheSize,
+                statistics.getStatementCacheHitsCounter(), statistics.getStatementCacheMissesCounter());
+
+        return new PooledConnection(connection, statementCache);
+    }
+
+    private void detectLeaks() {
+        long currentTime = System.currentTimeMillis();
+
+        for (PooledConnection pooledConnection : borrowedConnections.values()) {
+            long holdTime = currentTime - pooledConnection.getBorrowTime();
+            boolean isLeaked = holdTime > leakDetectionThreshold && !pooledConnection.isLeakReported();
+
+            if (isLeaked) {
+                pooledConnection.setLeakReported(true);
+                statistics.recordLeak();
+                LOGGER.warn(String.format("Connection is held for %d ms and may be leaked.", holdTime),
+                        pooledConnection.getBorrowerStackTrace());
+            }
+        }
+    }
+
+    private void registerStatistics() {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(STATISTICS_OBJECT_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+            mBeanServer.registerMBean(statistics, objectName);
+        } catch (JMException exception) {
+            LOGGER.warn("Connection pool statistics weren't registered in MBean server.", exception);
+        }
+    }
+
+    private void unregisterStatistics() {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(STATISTICS_OBJECT_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+        } catch (JMException exception) {
+            LOGGER.warn("Connection pool statistics weren't unregistered from MBean server.", exception);
+        }
+    }
+
+    private void evictIdleConnections() {
+        long currentTime = System.currentTimeMillis();
+        int idleCount = idleConnections.size();
+
+        // Returned connections are added to the head, so the least recently used ones are at the tail.
+        Iterator<PooledConnection> iterator = idleConnections.descendingIterator();
+        while (iterator.hasNext() && idleCount > minIdle) {
+            PooledConnection pooledConnection = iterator.next();
+            boolean isExpired = currentTime - pooledConnection.getLastAccessTime() > idleTimeout;
+
+            if (isExpired && idleConnections.removeFirstOccurrence(pooledConnection)) {
+                closeConnection(pooledConnection);
+                idleCount--;
+            }
+        }
+    }
+
+    private void validateIdleConnections() {
+        int idleCount = idleConnections.size();
+
+        // Every connection is taken out of deque for validation time, so it can't be borrowed meanwhile.
+        for (int index = 0; index < idleCount; index++) {
+            PooledConnection pooledConnection = idleConnections.pollLast();
+            if (pooledConnection == null) {
+                return;
+            }
+
+            if (isAlive(pooledConnection)) {
+                idleConnections.offerFirst(pooledConnection);
+                signalIdleConnectionAdded();
+            } else {
+                LOGGER.warn("Broken idle connection was detected and evicted.");
+                closeConnection(pooledConnection);
+            }
+        }
+    }
+
+    private void fillIdleConnections() {
+        while (idleConnections.size() < minIdle && reserveConnection()) {
             try {
-                connection.close();
-            } catch (SQLException exception) {
-                LOGGER.error("Exception was detected during pool closing.", exception);
+                PooledConnection pooledConnection = createConnection();
+                idleConnections.offerLast(pooledConnection);
+                signalIdleConnectionAdded();
+            } catch (ConnectionPoolException exception) {
+                LOGGER.warn("Idle connections weren't filled up.", exception);
+                return;
             }
         }
     }
+
+    private boolean isAlive(PooledConnection pooledConnection) {
+        long idleTime = System.currentTimeMillis() - pooledConnection.getLastAccessTime();
+        if (idleTime < VALIDATION_BYPASS_TIME) {
+            return true;
+        }
+
+        Connection connection = pooledConnection.getConnection();
+        try {
+            return !connection.isClosed() && connection.isValid(validationTimeout);
+        } catch (SQLException exception) {
+            return false;
+        }
+    }
+
+    private boolean isClosed(Connection connection) {
+        try {
+            return connection.isClosed();
+        } catch (SQLException exception) {
+            return true;
+        }
+    }
+
+    private boolean readBooleanProperty(String key, boolean defaultValue) {
+        if (!RESOURCE_BUNDLE.containsKey(key)) {
+            return defaultValue;
+        }
+
+        String value = RESOURCE_BUNDLE.getString(key);
+
+        return Boolean.parseBoolean(value);
+    }
+
+    private long readLongProperty(String key, long defaultValue) {
+        if (!RESOURCE_BUNDLE.containsKey(key)) {
+            return defaultValue;
+        }
+
+        String value = RESOURCE_BUNDLE.getString(key);
+
+        return Long.parseLong(value);
+    }
 }
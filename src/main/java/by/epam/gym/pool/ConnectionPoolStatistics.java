@@ -0,0 +1,171 @@
+package by.epam.gym.pool;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters and histograms of connection pool, that are available through JMX.
+ *
+ * @author Eugene Makarenko
+ * @see ConnectionPool
+ * @see TimeHistogram
+ */
+public class ConnectionPoolStatistics implements ConnectionPoolStatisticsMBean {
+
+    private final ConnectionPool connectionPool;
+
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong creationCount = new AtomicLong();
+    private final AtomicLong leakCount = new AtomicLong();
+    private final AtomicLong statementCacheHits = new AtomicLong();
+    private final AtomicLong statementCacheMisses = new AtomicLong();
+    private final TimeHistogram borrowWaitHistogram = new TimeHistogram();
+    private final TimeHistogram holdTimeHistogram = new TimeHistogram();
+
+    /**
+     * Instantiates a new ConnectionPoolStatistics.
+     *
+     * @param connectionPool the connection pool.
+     */
+    ConnectionPoolStatistics(ConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+    }
+
+    @Override
+    public int getTotalConnections() {
+        return connectionPool.getTotalConnectionsCount();
+    }
+
+    @Override
+    public int getActiveConnections() {
+        return connectionPool.getActiveConnectionsCount();
+    }
+
+    @Override
+    public int getIdleConnections() {
+        return connectionPool.getIdleConnectionsCount();
+    }
+
+    @Override
+    public int getWaitingThreads() {
+        return connectionPool.getWaitingThreadsCount();
+    }
+
+    @Override
+    public long getBorrowCount() {
+        return borrowWaitHistogram.getCount();
+    }
+
+    @Override
+    public long getTimeoutCount() {
+        return timeoutCount.get();
+    }
+
+    @Override
+    public long getCreationCount() {
+        return creationCount.get();
+    }
+
+    @Override
+    public long getLeakCount() {
+        return leakCount.get();
+    }
+
+    @Override
+    public double getAverageBorrowWaitMillis() {
+        return borrowWaitHistogram.getAverage();
+    }
+
+    @Override
+    public long getMaxBorrowWaitMillis() {
+        return borrowWaitHistogram.getMax();
+    }
+
+    @Override
+    public String getBorrowWaitHistogram() {
+        return borrowWaitHistogram.toString();
+    }
+
+    @Override
+    public double getAverageHoldMillis() {
+        return holdTimeHistogram.getAverage();
+    }
+
+    @Override
+    public long getMaxHoldMillis() {
+        return holdTimeHistogram.getMax();
+    }
+
+    @Override
+    public String getHoldTimeHistogram() {
+        return holdTimeHistogram.toString();
+    }
+
+    @Override
+    public long getStatementCacheHits() {
+        return statementCacheHits.get();
+    }
+
+    @Override
+    public long getStatementCacheMisses() {
+        return statementCacheMisses.get();
+    }
+
+    /**
+     * This method records borrow of connection.
+     *
+     * @param waitMillis the time of waiting for connection in milliseconds.
+     */
+    void recordBorrow(long waitMillis) {
+        borrowWaitHistogram.record(waitMillis);
+    }
+
+    /**
+     * This method records return of connection.
+     *
+     * @param holdMillis the time between borrow and return of connection in milliseconds.
+     */
+    void recordReturn(long holdMillis) {
+        holdTimeHistogram.record(holdMillis);
+    }
+
+    /**
+     * This method records borrow that failed because of acquire timeout.
+     */
+    void recordTimeout() {
+        timeoutCount.incrementAndGet();
+    }
+
+    /**
+     * This method records opened connections.
+     *
+     * @param count the count of opened connections.
+     */
+    void recordCreation(int count) {
+        creationCount.addAndGet(count);
+    }
+
+    /**
+     * This method records connection that was held longer than leak detection threshold.
+     */
+    void recordLeak() {
+        leakCount.incrementAndGet();
+    }
+
+    /**
+     * Gets counter of statement cache hits, that is shared by all statement caches.
+     *
+     * @return the counter.
+     */
+    AtomicLong getStatementCacheHitsCounter() {
+        return statementCacheHits;
+    }
+
+    /**
+     * Gets counter of statement cache misses, that is shared by all statement caches.
+     *
+     * @return the counter.
+     */
+    AtomicLong getStatementCacheMissesCounter() {
+        return statementCacheMisses;
+    }
+}
@@ -0,0 +1,122 @@
+package by.epam.gym.pool;
+
+/**
+ * Management interface of connection pool statistics, that is registered in platform MBean server.
+ *
+ * @author Eugene Makarenko
+ * @see ConnectionPoolStatistics
+ */
+public interface ConnectionPoolStatisticsMBean {
+
+    /**
+     * Gets count of opened connections.
+     *
+     * @return the count of connections.
+     */
+    int getTotalConnections();
+
+    /**
+     * Gets count of borrowed connections.
+     *
+     * @return the count of connections.
+     */
+    int getActiveConnections();
+
+    /**
+     * Gets count of free connections.
+     *
+     * @return the count of connections.
+     */
+    int getIdleConnections();
+
+    /**
+     * Gets estimated count of threads that wait for connection.
+     *
+     * @return the count of threads.
+     */
+    int getWaitingThreads();
+
+    /**
+     * Gets count of borrowed connections since pool creation.
+     *
+     * @return the count of borrows.
+     */
+    long getBorrowCount();
+
+    /**
+     * Gets count of borrows that failed because of acquire timeout.
+     *
+     * @return the count of timeouts.
+     */
+    long getTimeoutCount();
+
+    /**
+     * Gets count of opened connections since pool creation.
+     *
+     * @return the count of creations.
+     */
+    long getCreationCount();
+
+    /**
+     * Gets count of connections that were held longer than leak detection threshold.
+     *
+     * @return the count of leaks.
+     */
+    long getLeakCount();
+
+    /**
+     * Gets average time of waiting for connection.
+     *
+     * @return the time in milliseconds.
+     */
+    double getAverageBorrowWaitMillis();
+
+    /**
+     * Gets max time of waiting for connection.
+     *
+     * @return the time in milliseconds.
+     */
+    long getMaxBorrowWaitMillis();
+
+    /**
+     * Gets histogram of waiting for connection times.
+     *
+     * @return the histogram.
+     */
+    String getBorrowWaitHistogram();
+
+    /**
+     * Gets average time between borrow and return of connection.
+     *
+     * @return the time in milliseconds.
+     */
+    double getAverageHoldMillis();
+
+    /**
+     * Gets max time between borrow and return of connection.
+     *
+     * @return the time in milliseconds.
+     */
+    long getMaxHoldMillis();
+
+    /**
+     * Gets histogram of times between borrow and return of connection.
+     *
+     * @return the histogram.
+     */
+    String getHoldTimeHistogram();
+
+    /**
+     * Gets count of prepared statements that were taken from statement caches.
+     *
+     * @return the count of hits.
+     */
+    long getStatementCacheHits();
+
+    /**
+     * Gets count of prepared statements that weren't found in statement caches.
+     *
+     * @return the count of misses.
+     */
+    long getStatementCacheMisses();
+}
@@ -0,0 +1,161 @@
+package by.epam.gym.pool;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+
+/**
+ * Connection that is kept by pool together with its usage information and statement cache.
+ * <p>
+ * Pool gives out wrapper of connection, that takes prepared statements from statement cache.
+ *
+ * @author Eugene Makarenko
+ * @see ConnectionPool
+ * @see StatementCache
+ */
+class PooledConnection implements InvocationHandler {
+
+    private static final String PREPARE_STATEMENT_METHOD_NAME = "prepareStatement";
+
+    private final Connection connection;
+    private final Connection proxy;
+    private final StatementCache statementCache;
+    private volatile long lastAccessTime;
+    private volatile long borrowTime;
+    private volatile Throwable borrowerStackTrace;
+    private volatile boolean isLeakReported;
+
+    /**
+     * Instantiates a new PooledConnection.
+     *
+     * @param connection     the connection to database.
+     * @param statementCache the cache of prepared statements of connection.
+     */
+    PooledConnection(Connection connection, StatementCache statementCache) {
+        this.connection = connection;
+        this.statementCache = statementCache;
+        this.lastAccessTime = System.currentTimeMillis();
+        this.proxy = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, this);
+    }
+
+    /**
+     * Gets connection.
+     *
+     * @return the connection.
+     */
+    Connection getConnection() {
+        return connection;
+    }
+
+    /**
+     * Gets wrapper of connection that is given out from pool.
+     *
+     * @return the connection wrapper.
+     */
+    Connection getProxy() {
+        return proxy;
+    }
+
+    /**
+     * Gets statement cache.
+     *
+     * @return the statement cache.
+     */
+    StatementCache getStatementCache() {
+        return statementCache;
+    }
+
+    /**
+     * Gets time of the last borrow or return of connection.
+     *
+     * @return the time in milliseconds.
+     */
+    long getLastAccessTime() {
+        return lastAccessTime;
+    }
+
+    /**
+     * Sets time of the last borrow or return of connection.
+     *
+     * @param lastAccessTime the time in milliseconds.
+     */
+    void setLastAccessTime(long lastAccessTime) {
+        this.lastAccessTime = lastAccessTime;
+    }
+
+    /**
+     * This method marks connection as borrowed.
+     *
+     * @param borrowTime         the time of borrow in milliseconds.
+     * @param borrowerStackTrace the stack trace of borrower or null if leak detection is off.
+     */
+    void markBorrowed(long borrowTime, Throwable borrowerStackTrace) {
+        this.borrowTime = borrowTime;
+        this.lastAccessTime = borrowTime;
+        this.borrowerStackTrace = borrowerStackTrace;
+        this.isLeakReported = false;
+    }
+
+    /**
+     * Gets time of the last borrow of connection.
+     *
+     * @return the time in milliseconds.
+     */
+    long getBorrowTime() {
+        return borrowTime;
+    }
+
+    /**
+     * Gets stack trace of the last borrower of connection.
+     *
+     * @return the stack trace or null if leak detection is off.
+     */
+    Throwable getBorrowerStackTrace() {
+        return borrowerStackTrace;
+    }
+
+    /**
+     * Checks if connection was reported as leaked since the last borrow.
+     *
+     * @return true if leak was reported and false otherwise.
+     */
+    boolean isLeakReported() {
+        return isLeakReported;
+    }
+
+    /**
+     * Sets if connection was reported as leaked since the last borrow.
+     *
+     * @param isLeakReported true if leak was reported.
+     */
+    void setLeakReported(boolean isLeakReported) {
+        this.isLeakReported = isLeakReported;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] arguments) throws Throwable {
+        boolean isPrepareStatement = PREPARE_STATEMENT_METHOD_NAME.equals(method.getName())
+                && arguments != null && arguments.length == 1;
+        if (isPrepareStatement) {
+            String sqlQuery = (String) arguments[0];
+            return statementCache.prepareStatement(connection, sqlQuery);
+        }
+
+        boolean isPrepareStatementWithGeneratedKeys = PREPARE_STATEMENT_METHOD_NAME.equals(method.getName())
+                && arguments != null && arguments.length == 2 && method.getParameterTypes()[1] == int.class;
+        if (isPrepareStatementWithGeneratedKeys) {
+            String sqlQuery = (String) arguments[0];
+            int autoGeneratedKeys = (Integer) arguments[1];
+            return statementCache.prepareStatement(connection, sqlQuery, autoGeneratedKeys);
+        }
+
+        try {
+            return method.invoke(connection, arguments);
+        } catch (InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package by.epam.gym.pool;
+
+import org.apache.log4j.Logger;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LRU cache of prepared statements of one pooled connection, statements are keyed by sql query.
+ * <p>
+ * Cached statement is given out wrapped, so closing it clears its parameters and returns it to cache instead of
+ * real closing. Fetch size, max rows, query timeout, max field size and fetch direction, that were changed by
+ * borrower, are reset to values the statement was prepared with. Statement with other changed settings is evicted.
+ * If statement for the same query is already in use, new statement is prepared and closed as usual.
+ * Statements that are pushed out of cache are closed when they are not in use anymore.
+ *
+ * @author Eugene Makarenko
+ * @see PooledConnection
+ * @see PreparedStatement
+ */
+class StatementCache {
+
+    private static final Logger LOGGER = Logger.getLogger(StatementCache.class);
+
+    private static final String CLOSE_METHOD_NAME = "close";
+    private static final String IS_CLOSED_METHOD_NAME = "isClosed";
+    private static final String GENERATED_KEYS_CACHE_KEY_PREFIX = "/* generated keys */ ";
+
+    private static final Set<String> RESETTABLE_SETTING_METHOD_NAMES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "setFetchSize", "setMaxRows", "setLargeMaxRows", "setQueryTimeout", "setMaxFieldSize", "setFetchDirection")));
+    private static final Set<String> NOT_RESETTABLE_SETTING_METHOD_NAMES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "setEscapeProcessing", "setCursorName", "setPoolable", "closeOnCompletion")));
+
+    private final int maxSize;
+    private final AtomicLong hitsCounter;
+    private final AtomicLong missesCounter;
+    private final Map<String, CachedStatement> statements;
+
+    /**
+     * Instantiates a new StatementCache.
+     *
+     * @param maxSize       the max count of cached statements, zero turns cache off.
+     * @param hitsCounter   the counter of statements that were taken from cache.
+     * @param missesCounter the counter of statements that were prepared.
+     */
+    StatementCache(int maxSize, AtomicLong hitsCounter, AtomicLong missesCounter) {
+        this.maxSize = maxSize;
+        this.hitsCounter = hitsCounter;
+        this.missesCounter = missesCounter;
+        this.statements = new LinkedHashMap<String, CachedStatement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+                boolean isOverflowed = size() > StatementCache.this.maxSize;
+                if (isOverflowed) {
+                    evict(eldest.getValue());
+                }
+
+                return isOverflowed;
+            }
+        };
+    }
+
+    /**
+     * This method gets prepared statement for query from cache or prepares new one.
+     *
+     * @param connection the connection to database.
+     * @param sqlQuery   the sql query.
+     * @return PreparedStatement object.
+     * @throws SQLException object if statement wasn't prepared.
+     */
+    PreparedStatement prepareStatement(Connection connection, String sqlQuery) throws SQLException {
+        return prepareStatement(connection, sqlQuery, Statement.NO_GENERATED_KEYS);
+    }
+
+    /**
+     * This method gets prepared statement for query from cache or prepares new one. Statements that return
+     * generated keys are cached apart from statements for the same query that don't return them.
+     *
+     * @param connection        the connection to database.
+     * @param sqlQuery          the sql query.
+     * @param autoGeneratedKeys the flag if generated keys are returned.
+     * @return PreparedStatement object.
+     * @throws SQLException object if statement wasn't prepared.
+     */
+    synchronized PreparedStatement prepareStatement(Connection connection, String sqlQuery, int autoGeneratedKeys) throws SQLException {
+        String cacheKey = autoGeneratedKeys == Statement.RETURN_GENERATED_KEYS ? GENERATED_KEYS_CACHE_KEY_PREFIX + sqlQuery : sqlQuery;
+        CachedStatement cachedStatement = statements.get(cacheKey);
+        if (cachedStatement != null && !cachedStatement.isInUse) {
+            hitsCounter.incrementAndGet();
+            cachedStatement.isInUse = true;
+
+            return cachedStatement.proxy;
+        }
+
+        missesCounter.incrementAndGet();
+        PreparedStatement preparedStatement = connection.prepareStatement(sqlQuery, autoGeneratedKeys);
+        if (cachedStatement != null || maxSize <= 0) {
+            return preparedStatement;
+        }
+
+        try {
+            cachedStatement = new CachedStatement(preparedStatement);
+        } catch (SQLException exception) {
+            closeStatement(preparedStatement);
+            throw exception;
+        }
+        cachedStatement.isInUse = true;
+        statements.put(cacheKey, cachedStatement);
+
+        return cachedStatement.proxy;
+    }
+
+    /**
+     * This method closes all cached statements.
+     */
+    synchronized void close() {
+        List<CachedStatement> cachedStatements = new ArrayList<>(statements.values());
+        statements.clear();
+
+        for (CachedStatement cachedStatement : cachedStatements) {
+            closeStatement(cachedStatement.statement);
+        }
+    }
+
+    private synchronized void release(CachedStatement cachedStatement) {
+        if (!cachedStatement.isInUse) {
+            return;
+        }
+        cachedStatement.isInUse = false;
+
+        if (cachedStatement.isEvicted) {
+            closeStatement(cachedStatement.statement);
+            return;
+        }
+
+        if (cachedStatement.isNotResettableSettingChanged) {
+            evict(cachedStatement);
+            statements.values().remove(cachedStatement);
+            return;
+        }
+
+        try {
+            PreparedStatement statement = cachedStatement.statement;
+            ResultSet resultSet = statement.getResultSet();
+            if (resultSet != null) {
+                resultSet.close();
+            }
+            statement.clearParameters();
+            statement.clearBatch();
+
+            if (cachedStatement.isSettingChanged) {
+                cachedStatement.resetSettings();
+            }
+        } catch (SQLException exception) {
+            LOGGER.warn("Cached statement wasn't cleared and was evicted.", exception);
+            evict(cachedStatement);
+            statements.values().remove(cachedStatement);
+        }
+    }
+
+    private void evict(CachedStatement cachedStatement) {
+        cachedStatement.isEvicted = true;
+        if (!cachedStatement.isInUse) {
+            closeStatement(cachedStatement.statement);
+        }
+    }
+
+    private void closeStatement(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException exception) {
+            LOGGER.error("Exception was detected during statement closing.", exception);
+        }
+    }
+
+    /**
+     * Cached statement together with its wrapper that is given out to dao.
+     */
+    private class CachedStatement implements InvocationHandler {
+
+        private final PreparedStatement statement;
+        private final PreparedStatement proxy;
+        private volatile boolean isInUse;
+        private boolean isEvicted;
+        private boolean isSettingChanged;
+        private boolean isNotResettableSettingChanged;
+
+        private final int defaultFetchSize;
+        private final int defaultMaxRows;
+        private final int defaultQueryTimeout;
+        private final int defaultMaxFieldSize;
+        private final int defaultFetchDirection;
+
+        private CachedStatement(PreparedStatement statement) throws SQLException {
+            this.statement = statement;
+            this.proxy = (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, this);
+
+            defaultFetchSize = statement.getFetchSize();
+            defaultMaxRows = statement.getMaxRows();
+            defaultQueryTimeout = statement.getQueryTimeout();
+            defaultMaxFieldSize = statement.getMaxFieldSize();
+            defaultFetchDirection = statement.getFetchDirection();
+        }
+
+        private void resetSettings() throws SQLException {
+            // Max rows is reset first, because driver may reject fetch size that is bigger than max rows.
+            statement.setMaxRows(defaultMaxRows);
+            statement.setFetchSize(defaultFetchSize);
+            statement.setQueryTimeout(defaultQueryTimeout);
+            statement.setMaxFieldSize(defaultMaxFieldSize);
+            statement.setFetchDirection(defaultFetchDirection);
+            isSettingChanged = false;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] arguments) throws Throwable {
+            String methodName = method.getName();
+            boolean hasArguments = arguments != null && arguments.length > 0;
+
+            if (CLOSE_METHOD_NAME.equals(methodName) && !hasArguments) {
+                release(this);
+                return null;
+            }
+            if (IS_CLOSED_METHOD_NAME.equals(methodName) && !hasArguments) {
+                return !isInUse || statement.isClosed();
+            }
+            if (RESETTABLE_SETTING_METHOD_NAMES.contains(methodName)) {
+                isSettingChanged = true;
+            } else if (NOT_RESETTABLE_SETTING_METHOD_NAMES.contains(methodName)) {
+                isNotResettableSettingChanged = true;
+            }
+
+            try {
+                return method.invoke(statement, arguments);
+            } catch (InvocationTargetException exception) {
+                throw exception.getCause();
+            }
+        }
+    }
+}
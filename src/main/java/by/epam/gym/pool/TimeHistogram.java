@@ -0,0 +1,99 @@
+package by.epam.gym.pool;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread safe histogram of time intervals with fixed buckets, that also keeps count, sum and max of values.
+ *
+ * @author Eugene Makarenko
+ * @see ConnectionPoolStatistics
+ */
+class TimeHistogram {
+
+    private static final long[] BUCKET_BOUNDS = {1L, 5L, 10L, 50L, 100L, 500L, 1_000L, 5_000L, 30_000L};
+
+    private static final String BUCKET_FORMAT = "<=%dms: %d, ";
+    private static final String LAST_BUCKET_FORMAT = ">%dms: %d";
+
+    private final AtomicLongArray bucketCounts;
+    private final AtomicLong count;
+    private final AtomicLong sum;
+    private final AtomicLong max;
+
+    /**
+     * Instantiates a new TimeHistogram.
+     */
+    TimeHistogram() {
+        bucketCounts = new AtomicLongArray(BUCKET_BOUNDS.length + 1);
+        count = new AtomicLong();
+        sum = new AtomicLong();
+        max = new AtomicLong();
+    }
+
+    /**
+     * This method records time interval.
+     *
+     * @param millis the time interval in milliseconds.
+     */
+    void record(long millis) {
+        int bucketIndex = 0;
+        while (bucketIndex < BUCKET_BOUNDS.length && millis > BUCKET_BOUNDS[bucketIndex]) {
+            bucketIndex++;
+        }
+        bucketCounts.incrementAndGet(bucketIndex);
+        count.incrementAndGet();
+        sum.addAndGet(millis);
+
+        long currentMax = max.get();
+        while (millis > currentMax && !max.compareAndSet(currentMax, millis)) {
+            currentMax = max.get();
+        }
+    }
+
+    /**
+     * Gets count of recorded intervals.
+     *
+     * @return the count.
+     */
+    long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Gets average of recorded intervals.
+     *
+     * @return the average time in milliseconds.
+     */
+    double getAverage() {
+        long currentCount = count.get();
+
+        return currentCount == 0 ? 0 : (double) sum.get() / currentCount;
+    }
+
+    /**
+     * Gets max of recorded intervals.
+     *
+     * @return the max time in milliseconds.
+     */
+    long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Gets histogram as string with count of intervals in every bucket.
+     *
+     * @return the histogram.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (int bucketIndex = 0; bucketIndex < BUCKET_BOUNDS.length; bucketIndex++) {
+            builder.append(String.format(BUCKET_FORMAT, BUCKET_BOUNDS[bucketIndex], bucketCounts.get(bucketIndex)));
+        }
+        int lastBucketIndex = BUCKET_BOUNDS.length;
+        builder.append(String.format(LAST_BUCKET_FORMAT, BUCKET_BOUNDS[lastBucketIndex - 1], bucketCounts.get(lastBucketIndex)));
+
+        return builder.toString();
+    }
+}
@@ -2,14 +2,22 @@ package by.epam.gym.service;
 
 import by.epam.gym.dao.ConnectionManager;
 import by.epam.gym.dao.OrderDAOImpl;
-import by.epam.gym.entities.order.Order;
+import by.epam.gym.entities.user.User;
 import by.epam.gym.exceptions.DAOException;
 import by.epam.gym.exceptions.ServiceException;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Service class to get discount for client.
+ * <p>
+ * Discount depends on count of client's orders. Counts are read by COUNT(*) query and held in bounded
+ * cache, count of client is removed from it when client pays order.
  */
 public class DiscountService {
 
@@ -23,33 +31,136 @@ public class DiscountService {
     private static final int MIDDLE_DISCOUNT_PERCENT = 10;
     private static final int MAX_DISCOUNT_PERCENT = 15;
 
+    private static final int ORDERS_COUNT_CACHE_SIZE = 4096;
+    private static final long ORDERS_COUNT_CACHE_TIME_TO_LIVE = TimeUnit.MINUTES.toMillis(30);
+
+    private static final OrdersCountCache ordersCounts = new OrdersCountCache(ORDERS_COUNT_CACHE_SIZE, ORDERS_COUNT_CACHE_TIME_TO_LIVE);
+
+    /**
+     * Count of paid orders. Count that was read from database is kept in cache only if no order was paid
+     * since reading was started till count was put in cache, otherwise it could miss that order.
+     */
+    private static final AtomicLong paidOrdersVersion = new AtomicLong();
+
     /**
      * This method returns discount.
      *
      * @param clientId the client's id.
      * @return the discount.
+     * @throws ServiceException object if execution of method is failed.
      */
     public int getDiscount(int clientId) throws ServiceException {
+        Integer ordersCount = ordersCounts.get(clientId);
+        if (ordersCount != null) {
+            return calculateDiscount(ordersCount);
+        }
+
         try (ConnectionManager connectionManager = new ConnectionManager()) {
+            long version = paidOrdersVersion.get();
+
             OrderDAOImpl orderDAO = new OrderDAOImpl(connectionManager.getConnection());
-            List<Order> clientOrders = orderDAO.selectClientOrders(clientId);
-            int ordersCount = clientOrders.size();
+            int selectedOrdersCount = orderDAO.selectClientOrdersCount(clientId);
 
-            if (ordersCount == MINIMAL_ORDERS_COUNT_FOR_DISCOUNT || (ordersCount > MINIMAL_ORDERS_COUNT_FOR_DISCOUNT && ordersCount < MIDDLE_ORDERS_COUNT_FOR_DISCOUNT)) {
-                return MINIMAL_DISCOUNT_PERCENT;
-            }
+            cacheOrdersCount(clientId, selectedOrdersCount, version);
+
+            return calculateDiscount(selectedOrdersCount);
+        } catch (DAOException exception) {
+            throw new ServiceException("Exception during get discount operation.", exception);
+        }
+    }
 
-            if (ordersCount == MIDDLE_ORDERS_COUNT_FOR_DISCOUNT || (ordersCount > MIDDLE_ORDERS_COUNT_FOR_DISCOUNT && ordersCount < MAX_ORDERS_COUNT_FOR_DISCOUNT)) {
-                return MIDDLE_DISCOUNT_PERCENT;
+    /**
+     * This method returns discounts of several clients. Counts of orders that aren't in memory
+     * are read by one query for all clients.
+     *
+     * @param clients the clients.
+     * @return Map with client's id and discount.
+     * @throws ServiceException object if execution of method is failed.
+     */
+    public Map<Integer, Integer> getDiscounts(List<User> clients) throws ServiceException {
+        Map<Integer, Integer> discounts = new HashMap<>();
+        List<Integer> notCachedClientIds = new ArrayList<>();
+
+        for (User client : clients) {
+            int clientId = client.getId();
+            Integer ordersCount = ordersCounts.get(clientId);
+
+            if (ordersCount != null) {
+                int discount = calculateDiscount(ordersCount);
+                discounts.put(clientId, discount);
+            } else {
+                notCachedClientIds.add(clientId);
             }
+        }
+
+        if (notCachedClientIds.isEmpty()) {
+            return discounts;
+        }
+
+        try (ConnectionManager connectionManager = new ConnectionManager()) {
+            long version = paidOrdersVersion.get();
+
+            OrderDAOImpl orderDAO = new OrderDAOImpl(connectionManager.getConnection());
+            Map<Integer, Integer> selectedOrdersCounts = orderDAO.selectClientsOrdersCounts(notCachedClientIds);
 
-            if (ordersCount >= MAX_ORDERS_COUNT_FOR_DISCOUNT) {
-                return MAX_DISCOUNT_PERCENT;
+            for (int clientId : notCachedClientIds) {
+                Integer selectedOrdersCount = selectedOrdersCounts.get(clientId);
+                int ordersCount = selectedOrdersCount == null ? 0 : selectedOrdersCount;
+
+                cacheOrdersCount(clientId, ordersCount, version);
+                int discount = calculateDiscount(ordersCount);
+                discounts.put(clientId, discount);
             }
 
-            return NONE_DISCOUNT;
+            return discounts;
         } catch (DAOException exception) {
-            throw new ServiceException("Exception during get discount operation.", exception);
+            throw new ServiceException("Exception during get discounts operation.", exception);
+        }
+    }
+
+    /**
+     * This method calculates discount by count of client's orders.
+     *
+     * @param ordersCount the count of client's orders.
+     * @return the discount.
+     */
+    public int calculateDiscount(int ordersCount) {
+        if (ordersCount == MINIMAL_ORDERS_COUNT_FOR_DISCOUNT || (ordersCount > MINIMAL_ORDERS_COUNT_FOR_DISCOUNT && ordersCount < MIDDLE_ORDERS_COUNT_FOR_DISCOUNT)) {
+            return MINIMAL_DISCOUNT_PERCENT;
+        }
+
+        if (ordersCount == MIDDLE_ORDERS_COUNT_FOR_DISCOUNT || (ordersCount > MIDDLE_ORDERS_COUNT_FOR_DISCOUNT && ordersCount < MAX_ORDERS_COUNT_FOR_DISCOUNT)) {
+            return MIDDLE_DISCOUNT_PERCENT;
+        }
+
+        if (ordersCount >= MAX_ORDERS_COUNT_FOR_DISCOUNT) {
+            return MAX_DISCOUNT_PERCENT;
+        }
+
+        return NONE_DISCOUNT;
+    }
+
+    /**
+     * This method removes count of client's orders from cache after order was paid, so it's read again
+     * with paid order. Count isn't incremented, because it could be read after commit and already include the order.
+     *
+     * @param clientId the client's id.
+     */
+    void recordPaidOrder(int clientId) {
+        paidOrdersVersion.incrementAndGet();
+        ordersCounts.remove(clientId);
+    }
+
+    private void cacheOrdersCount(int clientId, int selectedOrdersCount, long version) {
+        if (version != paidOrdersVersion.get()) {
+            return;
+        }
+
+        ordersCounts.put(clientId, selectedOrdersCount);
+
+        // Order paid between the check and the put could miss this count, so the version is checked again.
+        if (version != paidOrdersVersion.get()) {
+            ordersCounts.remove(clientId);
         }
     }
 }
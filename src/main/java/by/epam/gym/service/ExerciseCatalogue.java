@@ -0,0 +1,147 @@
+package by.epam.gym.service;
+
+import by.epam.gym.dao.ConnectionManager;
+import by.epam.gym.dao.ExerciseDAOImpl;
+import by.epam.gym.entities.exercise.Exercise;
+import by.epam.gym.exceptions.DAOException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Application-wide catalogue of exercises.
+ * <p>
+ * Exercises are loaded once into immutable snapshot with list of exercises and index by id. Snapshot is replaced
+ * as a whole when new exercise is saved, so it's read without locks and without queries to database.
+ * Exercises of snapshot are shared, so exercise that is added to training program is a copy.
+ *
+ * @author Eugene Makarenko
+ * @see Exercise
+ * @see ExerciseService
+ */
+public class ExerciseCatalogue {
+
+    private static final ExerciseCatalogue INSTANCE = new ExerciseCatalogue();
+
+    private volatile Exercises exercises;
+
+    private ExerciseCatalogue() {
+    }
+
+    /**
+     * Gets instance of exercise catalogue.
+     *
+     * @return the exercise catalogue.
+     */
+    public static ExerciseCatalogue getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * This method gets all exercises. Exercises are loaded from database if they weren't loaded yet.
+     *
+     * @return unmodifiable List of exercises, that mustn't be changed.
+     * @throws DAOException object if exercises weren't loaded.
+     */
+    public List<Exercise> getExercises() throws DAOException {
+        Exercises currentExercises = getLoadedExercises();
+
+        return currentExercises.exercisesList;
+    }
+
+    /**
+     * This method finds exercise by id.
+     *
+     * @param id the exercise's id.
+     * @return copy of exercise, that may be changed, or null if there isn't exercise with such id.
+     * @throws DAOException object if exercises weren't loaded.
+     */
+    public Exercise findExerciseById(int id) throws DAOException {
+        Exercises currentExercises = getLoadedExercises();
+        Exercise exercise = currentExercises.exercisesById.get(id);
+
+        return exercise == null ? null : copy(exercise);
+    }
+
+    /**
+     * This method checks if exercise with such id is in catalogue.
+     *
+     * @param id the exercise's id.
+     * @return true if exercise is in catalogue and false otherwise.
+     * @throws DAOException object if exercises weren't loaded.
+     */
+    public boolean containsExercise(int id) throws DAOException {
+        Exercises currentExercises = getLoadedExercises();
+
+        return currentExercises.exercisesById.containsKey(id);
+    }
+
+    /**
+     * This method adds saved exercise with its generated id to catalogue. Loaded exercises are replaced
+     * by new snapshot with this exercise. Nothing is done if exercises weren't loaded yet, because
+     * saved exercise will be loaded with others, or if it was already loaded after it had been saved.
+     *
+     * @param exercise the saved exercise.
+     */
+    synchronized void addExercise(Exercise exercise) {
+        Exercises currentExercises = exercises;
+        if (currentExercises == null || currentExercises.exercisesById.containsKey(exercise.getId())) {
+            return;
+        }
+
+        List<Exercise> exercisesList = new ArrayList<>(currentExercises.exercisesList);
+        exercisesList.add(copy(exercise));
+        exercises = new Exercises(exercisesList);
+    }
+
+    private Exercises getLoadedExercises() throws DAOException {
+        Exercises currentExercises = exercises;
+        if (currentExercises != null) {
+            return currentExercises;
+        }
+
+        synchronized (this) {
+            if (exercises == null) {
+                try (ConnectionManager connectionManager = new ConnectionManager()) {
+                    ExerciseDAOImpl exerciseDAO = new ExerciseDAOImpl(connectionManager.getConnection());
+                    List<Exercise> exercisesList = exerciseDAO.selectAll();
+                    exercises = new Exercises(exercisesList);
+                }
+            }
+
+            return exercises;
+        }
+    }
+
+    private Exercise copy(Exercise exercise) {
+        Exercise copiedExercise = new Exercise();
+        copiedExercise.setId(exercise.getId());
+        copiedExercise.setName(exercise.getName());
+        copiedExercise.setLevel(exercise.getLevel());
+        copiedExercise.setDescription(exercise.getDescription());
+
+        return copiedExercise;
+    }
+
+    /**
+     * Immutable snapshot of exercises.
+     */
+    private static class Exercises {
+
+        private final List<Exercise> exercisesList;
+        private final Map<Integer, Exercise> exercisesById;
+
+        private Exercises(List<Exercise> exercisesList) {
+            Map<Integer, Exercise> exercisesById = new HashMap<>();
+            for (Exercise exercise : exercisesList) {
+                exercisesById.put(exercise.getId(), exercise);
+            }
+
+            this.exercisesList = Collections.unmodifiableList(exercisesList);
+            this.exercisesById = Collections.unmodifiableMap(exercisesById);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package by.epam.gym.service;
 import by.epam.gym.dao.ConnectionManager;
 import by.epam.gym.dao.ExerciseDAOImpl;
 import by.epam.gym.dao.TrainingProgramDAOImpl;
+import by.epam.gym.entities.TrainingProgramDraft;
 import by.epam.gym.entities.exercise.Exercise;
 import by.epam.gym.entities.exercise.ExerciseDifficultyLevel;
 import by.epam.gym.exceptions.DAOException;
@@ -21,81 +22,107 @@ import java.util.*;
  */
 public class ExerciseService {
 
-    private static final int DAY_NUMBER_INCREMENT_INDEX = 1;
-
     /**
-     * This method adds exercise to training program.
+     * This method adds exercises to training program in one batch.
      *
      * @param trainingProgramId the training program id.
      * @param daysAndExercises  the Map with day numbers and exercises.
      * @return true if operation was made successfully and false otherwise.
      * @throws ServiceException object if execution of method is failed.
      */
-    public boolean addExercisesToTrainingProgram(int trainingProgramId, Map<Integer, List<Exercise>> daysAndExercises, boolean isCleanNeed) throws ServiceException {
+    public boolean addExercisesToTrainingProgram(int trainingProgramId, Map<Integer, List<Exercise>> daysAndExercises) throws ServiceException {
 
-        ConnectionManager connectionManager = new ConnectionManager();
-        try {
+        try (ConnectionManager connectionManager = new ConnectionManager()) {
             connectionManager.startTransaction();
+            try {
+                ExerciseDAOImpl exerciseDAO = new ExerciseDAOImpl(connectionManager.getConnection());
 
-            if (isCleanNeed) {
-                TrainingProgramDAOImpl trainingProgramDAO = new TrainingProgramDAOImpl(connectionManager.getConnection());
-                boolean isCleanOperationSuccessful = trainingProgramDAO.deleteExercisesFromTrainingProgram(trainingProgramId);
-
-                if (!isCleanOperationSuccessful) {
+                boolean isResultSuccessful = exerciseDAO.insertExercisesIntoTrainingProgram(trainingProgramId, daysAndExercises);
+                if (!isResultSuccessful) {
+                    connectionManager.rollbackTransaction();
                     return false;
                 }
+
+                connectionManager.commitTransaction();
+                return true;
+            } catch (DAOException exception) {
+                connectionManager.rollbackTransaction();
+                throw exception;
+            } finally {
+                connectionManager.endTransaction();
             }
+        } catch (DAOException exception) {
+            throw new ServiceException("Exception during add exercises to training program operation.", exception);
+        }
+    }
 
-            ExerciseDAOImpl exerciseDAO = new ExerciseDAOImpl(connectionManager.getConnection());
+    /**
+     * This method saves edited exercises of training program.
+     * <p>
+     * Edited exercises are compared with saved ones by day number and exercise id, so only added, changed
+     * and removed exercises are written to database. Training program is locked before saved exercises are read,
+     * so concurrent saves of one program are made one after another and the last one wins.
+     *
+     * @param trainingProgramId the training program id.
+     * @param daysAndExercises  the Map with day numbers and edited exercises.
+     * @return true if operation was made successfully and false otherwise.
+     * @throws ServiceException object if execution of method is failed.
+     */
+    public boolean saveExercisesOfTrainingProgram(int trainingProgramId, Map<Integer, List<Exercise>> daysAndExercises) throws ServiceException {
 
-            Set<Map.Entry<Integer, List<Exercise>>> entrySet = daysAndExercises.entrySet();
-            for (Map.Entry<Integer, List<Exercise>> entry : entrySet) {
-                int dayNumber = entry.getKey();
-                List<Exercise> exercises = entry.getValue();
-                for (Exercise exercise : exercises) {
-                    int setsCount = exercise.getSetsCount();
-                    int repeatsCount = exercise.getRepeatsCount();
-                    int numberOfExecution = exercises.indexOf(exercise) + DAY_NUMBER_INCREMENT_INDEX;
-                    int exerciseId = exercise.getId();
-
-                    boolean isResultSuccessful = exerciseDAO.insertExerciseIntoTrainingProgram(trainingProgramId, exerciseId, dayNumber, setsCount, repeatsCount, numberOfExecution);
-                    if (!isResultSuccessful) {
-                        connectionManager.rollbackTransaction();
-                        return false;
-                    }
+        try (ConnectionManager connectionManager = new ConnectionManager()) {
+            connectionManager.startTransaction();
+            try {
+                TrainingProgramDAOImpl trainingProgramDAO = new TrainingProgramDAOImpl(connectionManager.getConnection());
+                boolean isTrainingProgramLocked = trainingProgramDAO.lockTrainingProgram(trainingProgramId);
+                if (!isTrainingProgramLocked) {
+                    connectionManager.rollbackTransaction();
+                    return false;
+                }
+
+                ExerciseDAOImpl exerciseDAO = new ExerciseDAOImpl(connectionManager.getConnection());
+                TreeMap<Integer, List<Exercise>> savedDaysAndExercises = exerciseDAO.selectExerciseFromTrainingProgram(trainingProgramId);
+
+                ExercisesDiff exercisesDiff = new ExercisesDiff(savedDaysAndExercises, daysAndExercises);
+
+                boolean isResultSuccessful = exerciseDAO.updateExercisesOfTrainingProgram(trainingProgramId, exercisesDiff.getInsertedExercises(),
+                        exercisesDiff.getUpdatedExercises(), exercisesDiff.getDeletedExercises());
+                if (!isResultSuccessful) {
+                    connectionManager.rollbackTransaction();
+                    return false;
                 }
-            }
 
-            connectionManager.commitTransaction();
-            return true;
+                connectionManager.commitTransaction();
+                return true;
+            } catch (DAOException exception) {
+                connectionManager.rollbackTransaction();
+                throw exception;
+            } finally {
+                connectionManager.endTransaction();
+            }
         } catch (DAOException exception) {
-            connectionManager.rollbackTransaction();
-            throw new ServiceException("Exception during add exercises to training program operation.", exception);
-        } finally {
-            connectionManager.endTransaction();
-            connectionManager.close();
+            throw new ServiceException("Exception during save exercises of training program operation.", exception);
         }
     }
 
     /**
-     * This method finds all exercises id and name.
+     * This method finds all exercises id and name in catalogue of exercises.
      *
-     * @return List with exercises.
+     * @return unmodifiable List with exercises, that is shared between sessions.
      * @throws ServiceException object if execution of method is failed.
      */
     public List<Exercise> findAllExercisesIdAndName() throws ServiceException {
-        try (ConnectionManager connectionManager = new ConnectionManager()) {
-            ExerciseDAOImpl exerciseDAO = new ExerciseDAOImpl(connectionManager.getConnection());
-            List<Exercise> exercises = exerciseDAO.selectAll();
+        try {
+            ExerciseCatalogue exerciseCatalogue = ExerciseCatalogue.getInstance();
 
-            return exercises;
+            return exerciseCatalogue.getExercises();
         } catch (DAOException exception) {
             throw new ServiceException("Exception during find all exercises id and name operation.", exception);
         }
     }
 
     /**
-     * This method adds exercise in database.
+     * This method adds exercise in database and to catalogue of exercises.
      *
      * @param exercise the exercise.
      * @return true if operation successful and false otherwise.
@@ -104,8 +131,13 @@ public class ExerciseService {
     public boolean saveExercise(Exercise exercise) throws ServiceException {
         try (ConnectionManager connectionManager = new ConnectionManager()) {
             ExerciseDAOImpl exerciseDAO = new ExerciseDAOImpl(connectionManager.getConnection());
+            boolean isOperationSuccessful = exerciseDAO.insert(exercise);
+            if (isOperationSuccessful) {
+                ExerciseCatalogue exerciseCatalogue = ExerciseCatalogue.getInstance();
+                exerciseCatalogue.addExercise(exercise);
+            }
 
-            return exerciseDAO.insert(exercise);
+            return isOperationSuccessful;
         } catch (DAOException exception) {
             throw new ServiceException("Exception during save exercise operation.", exception);
         }
@@ -130,17 +162,54 @@ public class ExerciseService {
         return exercise;
     }
 
+    /**
+     * This method finds exercises of training program draft with their names, levels and descriptions
+     * from catalogue of exercises.
+     *
+     * @param trainingProgramDraft the draft of training program.
+     * @return TreeMap object with day number and exercises in that day.
+     * @throws ServiceException object if execution of method is failed.
+     */
+    public TreeMap<Integer, List<Exercise>> findExercisesOfTrainingProgramDraft(TrainingProgramDraft trainingProgramDraft) throws ServiceException {
+        try {
+            ExerciseCatalogue exerciseCatalogue = ExerciseCatalogue.getInstance();
+            TreeMap<Integer, List<Exercise>> daysAndExercises = trainingProgramDraft.getDaysAndExercises();
+
+            for (List<Exercise> exercises : daysAndExercises.values()) {
+                ListIterator<Exercise> iterator = exercises.listIterator();
+                while (iterator.hasNext()) {
+                    Exercise draftExercise = iterator.next();
+                    Exercise exercise = exerciseCatalogue.findExerciseById(draftExercise.getId());
+                    if (exercise == null) {
+                        iterator.remove();
+                        continue;
+                    }
+
+                    exercise.setDayNumber(draftExercise.getDayNumber());
+                    exercise.setSetsCount(draftExercise.getSetsCount());
+                    exercise.setRepeatsCount(draftExercise.getRepeatsCount());
+                    exercise.setExecutionNumber(draftExercise.getExecutionNumber());
+                    iterator.set(exercise);
+                }
+            }
+
+            return daysAndExercises;
+        } catch (DAOException exception) {
+            throw new ServiceException("Exception during find exercises of training program draft operation.", exception);
+        }
+    }
+
     /**
      * This method edits exercise in training program.
      *
-     * @param exerciseIdValue   the exercise's id value.
-     * @param dayNumberValue    the exercise's day number value.
-     * @param setsCountValue    the exercise's sets count value.
-     * @param repeatsCountValue the exercise's repeats count value.
-     * @param daysAndExercises  the days and exercises in this day.
+     * @param exerciseIdValue      the exercise's id value.
+     * @param dayNumberValue       the exercise's day number value.
+     * @param setsCountValue       the exercise's sets count value.
+     * @param repeatsCountValue    the exercise's repeats count value.
+     * @param trainingProgramDraft the draft of training program.
      * @return true if operation was successful and false otherwise.
      */
-    public boolean editExercise(String exerciseIdValue, String dayNumberValue, String setsCountValue, String repeatsCountValue, Map<Integer, List<Exercise>> daysAndExercises) {
+    public boolean editExercise(String exerciseIdValue, String dayNumberValue, String setsCountValue, String repeatsCountValue, TrainingProgramDraft trainingProgramDraft) {
         int setsCount = Integer.parseInt(setsCountValue);
         int repeatsCount = Integer.parseInt(repeatsCountValue);
         ExerciseDataValidator exerciseDataValidator = new ExerciseDataValidator();
@@ -151,90 +220,65 @@ public class ExerciseService {
 
         int exerciseId = Integer.parseInt(exerciseIdValue);
         int dayNumber = Integer.parseInt(dayNumberValue);
-        Set<Map.Entry<Integer, List<Exercise>>> entrySet = daysAndExercises.entrySet();
-        for (Map.Entry<Integer, List<Exercise>> entry : entrySet) {
-            int day = entry.getKey();
-            if (day == dayNumber) {
-                List<Exercise> exercises = entry.getValue();
-                for (Exercise exercise : exercises) {
-                    int currentExerciseId = exercise.getId();
-
-                    if (exerciseId == currentExerciseId) {
-                        exercise.setSetsCount(setsCount);
-                        exercise.setRepeatsCount(repeatsCount);
-                    }
-                }
-            }
-        }
 
-        return true;
+        return trainingProgramDraft.editExercise(dayNumber, exerciseId, setsCount, repeatsCount);
     }
 
     /**
      * This method deletes exercise from training program.
      *
-     * @param exerciseIdValue  the exercise's id value.
-     * @param dayNumberValue   the exercise's day number value.
-     * @param daysAndExercises the days and exercises in this day.
+     * @param exerciseIdValue      the exercise's id value.
+     * @param dayNumberValue       the exercise's day number value.
+     * @param trainingProgramDraft the draft of training program.
      */
-    public void deleteExerciseFromTrainingProgram(String exerciseIdValue, String dayNumberValue, TreeMap<Integer, List<Exercise>> daysAndExercises) {
+    public void deleteExerciseFromTrainingProgram(String exerciseIdValue, String dayNumberValue, TrainingProgramDraft trainingProgramDraft) {
         int exerciseId = Integer.parseInt(exerciseIdValue);
         int dayNumber = Integer.parseInt(dayNumberValue);
 
-        Set<Map.Entry<Integer, List<Exercise>>> entrySet = daysAndExercises.entrySet();
-        for (Map.Entry<Integer, List<Exercise>> entry : entrySet) {
-            int day = entry.getKey();
-            if (day == dayNumber) {
-                List<Exercise> exercises = entry.getValue();
-                Iterator<Exercise> iterator = exercises.iterator();
-                while (iterator.hasNext()) {
-                    Exercise exercise = iterator.next();
-                    int currentExerciseId = exercise.getId();
-
-                    if (exerciseId == currentExerciseId) {
-                        iterator.remove();
-                    }
-                }
-            }
-        }
+        trainingProgramDraft.deleteExercise(dayNumber, exerciseId);
     }
 
     /**
      * This method adds exercise in training program.
      *
-     * @param exerciseIdValue   the exercise's id value.
-     * @param dayNumberValue    the exercise's day number value.
-     * @param setsCountValue    the exercise's sets count value.
-     * @param repeatsCountValue the exercise's repeats count value.
-     * @param daysAndExercises  the days and exercises in this day.
+     * @param exerciseIdValue      the exercise's id value.
+     * @param dayNumberValue       the exercise's day number value.
+     * @param setsCountValue       the exercise's sets count value.
+     * @param repeatsCountValue    the exercise's repeats count value.
+     * @param trainingProgramDraft the draft of training program.
      * @return true if operation was successful and false otherwise.
      * @throws ServiceException object if execution of method is failed.
      */
-    public boolean addExerciseInTrainingProgram(String exerciseIdValue, String dayNumberValue, String setsCountValue, String repeatsCountValue, TreeMap<Integer, List<Exercise>> daysAndExercises) throws ServiceException {
-        try (ConnectionManager connectionManager = new ConnectionManager()) {
+    public boolean addExerciseInTrainingProgram(String exerciseIdValue, String dayNumberValue, String setsCountValue, String repeatsCountValue, TrainingProgramDraft trainingProgramDraft) throws ServiceException {
+        try {
             int dayNumber = Integer.parseInt(dayNumberValue);
-            List<Exercise> exercises = daysAndExercises.get(dayNumber);
+            boolean isDayExist = trainingProgramDraft.containsDay(dayNumber);
+            if (!isDayExist) {
+                return false;
+            }
+
             int exerciseId = Integer.parseInt(exerciseIdValue);
-            ExerciseDataValidator exerciseDataValidator = new ExerciseDataValidator();
-            boolean isExerciseUnique = exerciseDataValidator.checkExerciseForUniqueInTrainingProgram(exerciseId, exercises);
-            if (!isExerciseUnique) {
+            boolean isExerciseExist = trainingProgramDraft.containsExercise(dayNumber, exerciseId);
+            if (isExerciseExist) {
                 return false;
             }
 
             int setsCount = Integer.parseInt(setsCountValue);
             int repeatsCount = Integer.parseInt(repeatsCountValue);
-            boolean isDataValid = exerciseDataValidator.checkExerciseCountDuringAddOperation(exercises, setsCount, repeatsCount);
+            int exercisesCount = trainingProgramDraft.getExercisesCount(dayNumber);
+            ExerciseDataValidator exerciseDataValidator = new ExerciseDataValidator();
+            boolean isDataValid = exerciseDataValidator.checkExerciseCountDuringAddOperation(exercisesCount, setsCount, repeatsCount);
             if (!isDataValid) {
                 return false;
             }
 
-            ExerciseDAOImpl exerciseDAO = new ExerciseDAOImpl(connectionManager.getConnection());
-            Exercise exercise = exerciseDAO.selectEntityById(exerciseId);
-            exercise.setSetsCount(setsCount);
-            exercise.setRepeatsCount(repeatsCount);
-            exercises.add(exercise);
+            ExerciseCatalogue exerciseCatalogue = ExerciseCatalogue.getInstance();
+            boolean isExerciseInCatalogue = exerciseCatalogue.containsExercise(exerciseId);
+            if (!isExerciseInCatalogue) {
+                return false;
+            }
 
-            return true;
+            return trainingProgramDraft.addExercise(dayNumber, exerciseId, setsCount, repeatsCount);
         } catch (DAOException e) {
             throw new ServiceException("Exception during add exercise in training program operation.", e);
         }
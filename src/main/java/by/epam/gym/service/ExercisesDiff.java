@@ -0,0 +1,98 @@
+package by.epam.gym.service;
+
+import by.epam.gym.entities.exercise.Exercise;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Difference between saved and edited exercises of training program.
+ * <p>
+ * Exercises are matched by day number and exercise id. Edited exercises get execution numbers by their order
+ * in day, exercise is changed if its sets count, repeats count or execution number differ from saved one.
+ *
+ * @author Eugene Makarenko
+ * @see ExerciseService
+ */
+public class ExercisesDiff {
+
+    private static final int FIRST_EXECUTION_NUMBER = 1;
+
+    private final List<Exercise> insertedExercises = new ArrayList<>();
+    private final List<Exercise> updatedExercises = new ArrayList<>();
+    private final List<Exercise> deletedExercises = new ArrayList<>();
+
+    /**
+     * Instantiates a new ExercisesDiff.
+     *
+     * @param savedDaysAndExercises  the Map with day numbers and saved exercises.
+     * @param editedDaysAndExercises the Map with day numbers and edited exercises.
+     */
+    public ExercisesDiff(Map<Integer, List<Exercise>> savedDaysAndExercises, Map<Integer, List<Exercise>> editedDaysAndExercises) {
+        Map<Integer, Map<Integer, Exercise>> savedExercisesByDays = new HashMap<>();
+        for (Map.Entry<Integer, List<Exercise>> entry : savedDaysAndExercises.entrySet()) {
+            Map<Integer, Exercise> savedExercises = new HashMap<>();
+            for (Exercise savedExercise : entry.getValue()) {
+                savedExercises.put(savedExercise.getId(), savedExercise);
+            }
+            savedExercisesByDays.put(entry.getKey(), savedExercises);
+        }
+
+        for (Map.Entry<Integer, List<Exercise>> entry : editedDaysAndExercises.entrySet()) {
+            int dayNumber = entry.getKey();
+            Map<Integer, Exercise> savedExercises = savedExercisesByDays.get(dayNumber);
+            int executionNumber = FIRST_EXECUTION_NUMBER;
+
+            for (Exercise exercise : entry.getValue()) {
+                exercise.setDayNumber(dayNumber);
+                exercise.setExecutionNumber(executionNumber++);
+
+                Exercise savedExercise = savedExercises == null ? null : savedExercises.remove(exercise.getId());
+                if (savedExercise == null) {
+                    insertedExercises.add(exercise);
+                } else if (isExerciseChanged(savedExercise, exercise)) {
+                    updatedExercises.add(exercise);
+                }
+            }
+        }
+
+        for (Map<Integer, Exercise> savedExercises : savedExercisesByDays.values()) {
+            deletedExercises.addAll(savedExercises.values());
+        }
+    }
+
+    /**
+     * Gets exercises, that aren't saved yet.
+     *
+     * @return the inserted exercises.
+     */
+    public List<Exercise> getInsertedExercises() {
+        return insertedExercises;
+    }
+
+    /**
+     * Gets saved exercises, that were changed.
+     *
+     * @return the updated exercises.
+     */
+    public List<Exercise> getUpdatedExercises() {
+        return updatedExercises;
+    }
+
+    /**
+     * Gets saved exercises, that were removed.
+     *
+     * @return the deleted exercises.
+     */
+    public List<Exercise> getDeletedExercises() {
+        return deletedExercises;
+    }
+
+    private boolean isExerciseChanged(Exercise savedExercise, Exercise exercise) {
+        return savedExercise.getSetsCount() != exercise.getSetsCount()
+                || savedExercise.getRepeatsCount() != exercise.getRepeatsCount()
+                || savedExercise.getExecutionNumber() != exercise.getExecutionNumber();
+    }
+}
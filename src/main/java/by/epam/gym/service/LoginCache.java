@@ -0,0 +1,88 @@
+package by.epam.gym.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of user's ids by their logins.
+ * <p>
+ * Entries expire after time to live and the least recently used entry is removed when cache is full,
+ * so logins that were renamed or deleted don't stay in memory for long.
+ *
+ * @author Eugene Makarenko
+ * @see UserService
+ */
+public class LoginCache {
+
+    private final int maxSize;
+    private final long timeToLive;
+    private final Map<String, CachedId> ids;
+
+    /**
+     * Instantiates a new LoginCache.
+     *
+     * @param maxSize    the max count of cached logins.
+     * @param timeToLive the time to live of cached login in milliseconds.
+     */
+    public LoginCache(int maxSize, long timeToLive) {
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive;
+        this.ids = new LinkedHashMap<String, CachedId>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedId> eldest) {
+                return size() > LoginCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * This method gets id of user by login.
+     *
+     * @param login the user's login.
+     * @return the user's id or null if login isn't cached or is expired.
+     */
+    public synchronized Integer get(String login) {
+        CachedId cachedId = ids.get(login);
+        if (cachedId == null) {
+            return null;
+        }
+
+        if (System.currentTimeMillis() >= cachedId.expirationTime) {
+            ids.remove(login);
+            return null;
+        }
+
+        return cachedId.id;
+    }
+
+    /**
+     * This method puts id of user in cache.
+     *
+     * @param login the user's login.
+     * @param id    the user's id.
+     */
+    public synchronized void put(String login, int id) {
+        long expirationTime = System.currentTimeMillis() + timeToLive;
+        ids.put(login, new CachedId(id, expirationTime));
+    }
+
+    /**
+     * This method removes login from cache.
+     *
+     * @param login the user's login.
+     */
+    public synchronized void remove(String login) {
+        ids.remove(login);
+    }
+
+    private static class CachedId {
+
+        private final int id;
+        private final long expirationTime;
+
+        private CachedId(int id, long expirationTime) {
+            this.id = id;
+            this.expirationTime = expirationTime;
+        }
+    }
+}
@@ -77,28 +77,34 @@ public class OrderService {
      * @throws ServiceException object if execution of method is failed.
      */
     public boolean payOrder(Order order) throws ServiceException {
-        ConnectionManager connectionManager = new ConnectionManager();
-        try {
+        try (ConnectionManager connectionManager = new ConnectionManager()) {
             connectionManager.startTransaction();
+            try {
+                order.setIsPayed(PAYED_ORDER_STATUS);
 
-            order.setIsPayed(PAYED_ORDER_STATUS);
+                OrderDAOImpl orderDAO = new OrderDAOImpl(connectionManager.getConnection());
+                boolean isOperationSuccessful = orderDAO.insert(order);
 
-            OrderDAOImpl orderDAO = new OrderDAOImpl(connectionManager.getConnection());
-            boolean isOperationSuccessful = orderDAO.insert(order);
+                if (!isOperationSuccessful) {
+                    connectionManager.rollbackTransaction();
+                    return false;
+                }
+
+                connectionManager.commitTransaction();
 
-            if (!isOperationSuccessful) {
+                DiscountService discountService = new DiscountService();
+                int clientId = order.getClientId();
+                discountService.recordPaidOrder(clientId);
+
+                return true;
+            } catch (DAOException exception) {
                 connectionManager.rollbackTransaction();
-                return false;
+                throw exception;
+            } finally {
+                connectionManager.endTransaction();
             }
-
-            connectionManager.commitTransaction();
-            return true;
         } catch (DAOException exception) {
-            connectionManager.rollbackTransaction();
             throw new ServiceException("Exception during pay order operation.", exception);
-        } finally {
-            connectionManager.endTransaction();
-            connectionManager.close();
         }
     }
 
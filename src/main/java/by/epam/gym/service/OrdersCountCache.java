@@ -0,0 +1,88 @@
+package by.epam.gym.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of counts of client's orders by client's id.
+ * <p>
+ * Entries expire after time to live and the least recently used entry is removed when cache is full,
+ * so counts of clients, that aren't shown for long, don't stay in memory.
+ *
+ * @author Eugene Makarenko
+ * @see DiscountService
+ */
+public class OrdersCountCache {
+
+    private final int maxSize;
+    private final long timeToLive;
+    private final Map<Integer, CachedCount> counts;
+
+    /**
+     * Instantiates a new OrdersCountCache.
+     *
+     * @param maxSize    the max count of cached clients.
+     * @param timeToLive the time to live of cached count in milliseconds.
+     */
+    public OrdersCountCache(int maxSize, long timeToLive) {
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive;
+        this.counts = new LinkedHashMap<Integer, CachedCount>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, CachedCount> eldest) {
+                return size() > OrdersCountCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * This method gets count of client's orders.
+     *
+     * @param clientId the client's id.
+     * @return the count of orders or null if count isn't cached or is expired.
+     */
+    public synchronized Integer get(int clientId) {
+        CachedCount cachedCount = counts.get(clientId);
+        if (cachedCount == null) {
+            return null;
+        }
+
+        if (System.currentTimeMillis() >= cachedCount.expirationTime) {
+            counts.remove(clientId);
+            return null;
+        }
+
+        return cachedCount.count;
+    }
+
+    /**
+     * This method puts count of client's orders in cache.
+     *
+     * @param clientId    the client's id.
+     * @param ordersCount the count of orders.
+     */
+    public synchronized void put(int clientId, int ordersCount) {
+        long expirationTime = System.currentTimeMillis() + timeToLive;
+        counts.put(clientId, new CachedCount(ordersCount, expirationTime));
+    }
+
+    /**
+     * This method removes count of client's orders from cache.
+     *
+     * @param clientId the client's id.
+     */
+    public synchronized void remove(int clientId) {
+        counts.remove(clientId);
+    }
+
+    private static class CachedCount {
+
+        private final int count;
+        private final long expirationTime;
+
+        private CachedCount(int count, long expirationTime) {
+            this.count = count;
+            this.expirationTime = expirationTime;
+        }
+    }
+}
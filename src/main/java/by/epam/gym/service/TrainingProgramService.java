@@ -1,17 +1,15 @@
 package by.epam.gym.service;
 
 import by.epam.gym.dao.ConnectionManager;
-import by.epam.gym.dao.ExerciseDAOImpl;
 import by.epam.gym.dao.TrainingProgramDAOImpl;
-import by.epam.gym.dao.UserDAOImpl;
 import by.epam.gym.entities.TrainingProgram;
-import by.epam.gym.entities.exercise.Exercise;
+import by.epam.gym.entities.TrainingProgramDraft;
+import by.epam.gym.entities.TrainingProgramView;
 import by.epam.gym.exceptions.DAOException;
 import by.epam.gym.exceptions.ServiceException;
 import by.epam.gym.utils.TrainingProgramDataValidator;
 
 import java.sql.Date;
-import java.util.*;
 
 /**
  * Service class for TrainingProgram entity.
@@ -21,8 +19,6 @@ import java.util.*;
  */
 public class TrainingProgramService {
 
-    private static final int DAY_INCREMENT_INDEX = 1;
-
     /**
      * This method refuses training program.
      *
@@ -32,33 +28,33 @@ public class TrainingProgramService {
      */
     public boolean refuseTrainingProgram(int trainingProgramId) throws ServiceException {
 
-        ConnectionManager connectionManager = new ConnectionManager();
-        try {
+        try (ConnectionManager connectionManager = new ConnectionManager()) {
             connectionManager.startTransaction();
-
-            TrainingProgramDAOImpl trainingProgramDAO = new TrainingProgramDAOImpl(connectionManager.getConnection());
-
-            boolean isExercisesCleaned = trainingProgramDAO.deleteExercisesFromTrainingProgram(trainingProgramId);
-            if (!isExercisesCleaned) {
+            try {
+                TrainingProgramDAOImpl trainingProgramDAO = new TrainingProgramDAOImpl(connectionManager.getConnection());
+
+                boolean isExercisesCleaned = trainingProgramDAO.deleteExercisesFromTrainingProgram(trainingProgramId);
+                if (!isExercisesCleaned) {
+                    connectionManager.rollbackTransaction();
+                    return false;
+                }
+
+                boolean isTrainingProgramDeleted = trainingProgramDAO.deleteById(trainingProgramId);
+                if (!isTrainingProgramDeleted) {
+                    connectionManager.rollbackTransaction();
+                    return false;
+                }
+
+                connectionManager.commitTransaction();
+                return true;
+            } catch (DAOException exception) {
                 connectionManager.rollbackTransaction();
-                return false;
+                throw exception;
+            } finally {
+                connectionManager.endTransaction();
             }
-
-            boolean isTrainingProgramDeleted = trainingProgramDAO.deleteById(trainingProgramId);
-            if (!isTrainingProgramDeleted) {
-                connectionManager.rollbackTransaction();
-                return false;
-            }
-
-            connectionManager.commitTransaction();
-            return true;
         } catch (DAOException exception) {
-            connectionManager.rollbackTransaction();
-
             throw new ServiceException("Exception during refuse training program operation.", exception);
-        } finally {
-            connectionManager.endTransaction();
-            connectionManager.close();
         }
     }
 
@@ -121,21 +117,15 @@ public class TrainingProgramService {
     }
 
     /**
-     * This method creates days and exercises for training program.
+     * This method creates draft of training program with empty days.
      *
      * @param daysCountValue the days count value.
-     * @return TreeMap object with day number and exercises in that day.
+     * @return TrainingProgramDraft object.
      */
-    public TreeMap<Integer, List<Exercise>> getDaysAndExerciseFromTrainingProgram(String daysCountValue) {
+    public TrainingProgramDraft createTrainingProgramDraft(String daysCountValue) {
         int daysCount = Integer.parseInt(daysCountValue);
 
-        TreeMap<Integer, List<Exercise>> daysAndExercises = new TreeMap<>();
-        for (int index = 1; index <= daysCount; index++) {
-            List<Exercise> list = new ArrayList<>();
-            daysAndExercises.put(index, list);
-        }
-
-        return daysAndExercises;
+        return new TrainingProgramDraft(daysCount);
     }
 
     /**
@@ -156,100 +146,50 @@ public class TrainingProgramService {
     }
 
     /**
-     * This method finds entity from database by client's id.
+     * This method finds client's last training program with its author's name and exercises.
      *
      * @param clientId the client's id.
-     * @return the entity.
+     * @return TrainingProgramView object or null if client doesn't have training program.
      * @throws ServiceException object if execution of query is failed.
      */
-    public TrainingProgram findTrainingProgramById(int clientId) throws ServiceException {
+    public TrainingProgramView findClientTrainingProgramView(int clientId) throws ServiceException {
         try (ConnectionManager connectionManager = new ConnectionManager()) {
             TrainingProgramDAOImpl trainingProgramDAO = new TrainingProgramDAOImpl(connectionManager.getConnection());
 
-            return trainingProgramDAO.selectClientTrainingProgram(clientId);
-        } catch (DAOException exception) {
-            throw new ServiceException("Exception during find training program by id operation.", exception);
-        }
-    }
-
-    /**
-     * This method finds training program author.
-     *
-     * @param trainingProgramId the training program id.
-     * @return the name of author.
-     * @throws ServiceException object if execution of method is failed.
-     */
-    public String findTrainingProgramAuthorName(int trainingProgramId) throws ServiceException {
-        try (ConnectionManager connectionManager = new ConnectionManager()) {
-            UserDAOImpl userDAO = new UserDAOImpl(connectionManager.getConnection());
-
-            return userDAO.selectTrainingProgramAuthorName(trainingProgramId);
-        } catch (DAOException exception) {
-            throw new ServiceException("Exception during find training program author name operation.", exception);
-        }
-    }
-
-    /**
-     * This method shows exercises from training program.
-     *
-     * @param trainingProgramId the training program id.
-     * @return TreeMap of exercises.
-     * @throws ServiceException object if execution of method is failed.
-     */
-    public TreeMap<Integer, List<Exercise>> showExercisesFromTrainingProgram(int trainingProgramId) throws ServiceException {
-        try (ConnectionManager connectionManager = new ConnectionManager()) {
-            ExerciseDAOImpl exerciseDAO = new ExerciseDAOImpl(connectionManager.getConnection());
-
-            return exerciseDAO.selectExerciseFromTrainingProgram(trainingProgramId);
+            return trainingProgramDAO.selectClientTrainingProgramView(clientId);
         } catch (DAOException exception) {
-            throw new ServiceException("Exception during show exercises from training program operation.", exception);
+            throw new ServiceException("Exception during find client training program view operation.", exception);
         }
     }
 
     /**
      * This method deletes day from training program.
      *
-     * @param dayNumberValue   the day number value.
-     * @param daysAndExercises the days and exercise in this days.
-     * @return TreeMap with new days and exercises.
+     * @param dayNumberValue       the day number value.
+     * @param trainingProgramDraft the draft of training program.
+     * @return true if operation was successful and false if there isn't such day.
      */
-    public TreeMap<Integer, List<Exercise>> deleteDayFromTrainingProgram(String dayNumberValue, TreeMap<Integer, List<Exercise>> daysAndExercises) {
+    public boolean deleteDayFromTrainingProgram(String dayNumberValue, TrainingProgramDraft trainingProgramDraft) {
         int dayNumber = Integer.parseInt(dayNumberValue);
-        TreeMap<Integer, List<Exercise>> newDaysAndExercises = new TreeMap<>();
 
-        Set<Map.Entry<Integer, List<Exercise>>> mapSet = daysAndExercises.entrySet();
-        for (Map.Entry<Integer, List<Exercise>> entry : mapSet) {
-            int day = entry.getKey();
-            List<Exercise> exercises = entry.getValue();
-
-            if (day < dayNumber) {
-                newDaysAndExercises.put(day, exercises);
-            } else if (day > dayNumber) {
-                int currentDay = --day;
-                newDaysAndExercises.put(currentDay, exercises);
-            }
-        }
-        return newDaysAndExercises;
+        return trainingProgramDraft.deleteDay(dayNumber);
     }
 
     /**
      * This method adds day in training program.
      *
-     * @param daysAndExercises the days and exercise in this days.
+     * @param trainingProgramDraft the draft of training program.
      * @return true if operation was successful and false otherwise.
      */
-    public boolean addDayInTrainingProgram(TreeMap<Integer, List<Exercise>> daysAndExercises) {
+    public boolean addDayInTrainingProgram(TrainingProgramDraft trainingProgramDraft) {
         TrainingProgramDataValidator trainingProgramDataValidator = new TrainingProgramDataValidator();
-        boolean isDaysCountValid = trainingProgramDataValidator.checkDaysCountForAddOperation(daysAndExercises);
+        int currentDaysCount = trainingProgramDraft.getDaysCount();
+        boolean isDaysCountValid = trainingProgramDataValidator.checkDaysCountForAddOperation(currentDaysCount);
         if (!isDaysCountValid) {
             return false;
         }
 
-        int currentDaysCount = daysAndExercises.size();
-        int day = currentDaysCount + DAY_INCREMENT_INDEX;
-
-        List<Exercise> exercises = new ArrayList<>();
-        daysAndExercises.put(day, exercises);
+        trainingProgramDraft.addDay();
 
         return true;
     }
@@ -9,9 +9,10 @@ import by.epam.gym.exceptions.ServiceException;
 import by.epam.gym.utils.PasswordEncoder;
 import by.epam.gym.utils.UserDataValidator;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Service class for User entity.
@@ -29,8 +30,22 @@ public class UserService {
     private static final int FIRST_NAME_INDEX = 0;
     private static final int LAST_NAME_INDEX = 1;
 
+    private static final int LOGIN_CACHE_SIZE = 1024;
+    private static final long LOGIN_CACHE_TIME_TO_LIVE = TimeUnit.MINUTES.toMillis(10);
+
+    private static final LoginCache loginCache = new LoginCache(LOGIN_CACHE_SIZE, LOGIN_CACHE_TIME_TO_LIVE);
+
+    private static final long CLIENTS_COUNT_REFRESH_PERIOD = TimeUnit.MINUTES.toMillis(1);
+
+    private static final AtomicBoolean isClientsCountRefreshing = new AtomicBoolean(false);
+    private static volatile int clientsCount;
+    private static volatile boolean isClientsCountLoaded;
+    private static volatile long clientsCountExpirationTime;
+
     /**
      * The method returns authorized user.
+     * <p>
+     * Id of user, that has logged in, is cached by login, so next login reads user by primary key.
      *
      * @param login    the user's login.
      * @param password the user's password.
@@ -42,14 +57,30 @@ public class UserService {
             UserDAOImpl userDAO = new UserDAOImpl(connectionManager.getConnection());
             password = PasswordEncoder.encode(password);
 
-            return userDAO.selectUserByLoginAndPassword(login, password);
+            Integer cachedUserId = loginCache.get(login);
+            if (cachedUserId != null) {
+                User user = userDAO.selectEntityById(cachedUserId);
+
+                if (user != null && login.equals(user.getLogin())) {
+                    return password.equals(user.getPassword()) ? user : null;
+                }
+                loginCache.remove(login);
+            }
+
+            User user = userDAO.selectUserByLoginAndPassword(login, password);
+            if (user != null) {
+                loginCache.put(login, user.getId());
+            }
+
+            return user;
         } catch (DAOException exception) {
             throw new ServiceException("Exception during login operation.", exception);
         }
     }
 
     /**
-     * The method registers user into data base.
+     * The method registers user into data base. Generated id of user is cached by login,
+     * so the first login reads user by primary key.
      *
      * @param login     the user's login.
      * @param password  the user's password.
@@ -70,7 +101,13 @@ public class UserService {
             user.setFirstName(firstName);
             user.setLastName(lastName);
 
-            return userDAO.insert(user);
+            boolean isOperationSuccessful = userDAO.insert(user);
+            if (isOperationSuccessful) {
+                clientsCountExpirationTime = 0;
+                loginCache.put(login, user.getId());
+            }
+
+            return isOperationSuccessful;
         } catch (DAOException exception) {
             throw new ServiceException("Exception during register operation.", exception);
         }
@@ -78,9 +115,10 @@ public class UserService {
 
     /**
      * The method checks user login for unique value during registration.
+     * Login cache isn't used here, because user could be deleted or changed after login was cached.
      *
      * @param login the user's login.
-     * @return true if login is unique and false if not.
+     * @return true if login is already taken and false if not.
      * @throws ServiceException object if execution of method is failed.
      */
     public boolean checkUserLoginForUnique(String login) throws ServiceException {
@@ -120,25 +158,75 @@ public class UserService {
     }
 
     /**
-     * This method finds all clients in database.
+     * This method finds page of clients, that follow client with chosen id.
      *
-     * @return Map of clients and number of records.
+     * @param lastSeenId      the id of the last client on previous page, zero for the first page.
+     * @param numberOfRecords the max number of clients on page.
+     * @return List of clients.
      * @throws ServiceException object if execution of method is failed.
      */
-    public Map<List<User>, Integer> findAllClientsByPages(int offSet, int numberOfRecords) throws ServiceException {
+    public List<User> findClientsAfterId(int lastSeenId, int numberOfRecords) throws ServiceException {
         try (ConnectionManager connectionManager = new ConnectionManager()) {
             UserDAOImpl userDAO = new UserDAOImpl(connectionManager.getConnection());
-            ;
-            Map<List<User>, Integer> clients = new HashMap<>();
 
-            List<User> findClient = userDAO.selectAllClientsByFoundRows(offSet, numberOfRecords);
-            Integer countOfRecords = userDAO.getNumberOfRecords();
+            return userDAO.selectClientsAfterId(lastSeenId, numberOfRecords);
+        } catch (DAOException exception) {
+            throw new ServiceException("Exception during find clients after id operation.", exception);
+        }
+    }
 
-            clients.put(findClient, countOfRecords);
+    /**
+     * This method finds page of clients, that precede client with chosen id.
+     *
+     * @param firstSeenId     the id of the first client on next page.
+     * @param numberOfRecords the max number of clients on page.
+     * @return List of clients.
+     * @throws ServiceException object if execution of method is failed.
+     */
+    public List<User> findClientsBeforeId(int firstSeenId, int numberOfRecords) throws ServiceException {
+        try (ConnectionManager connectionManager = new ConnectionManager()) {
+            UserDAOImpl userDAO = new UserDAOImpl(connectionManager.getConnection());
+
+            return userDAO.selectClientsBeforeId(firstSeenId, numberOfRecords);
+        } catch (DAOException exception) {
+            throw new ServiceException("Exception during find clients before id operation.", exception);
+        }
+    }
+
+    /**
+     * This method returns number of clients. Number is cached and counted again when it is older than refresh period
+     * or after registration of new client.
+     *
+     * @return the number of clients.
+     * @throws ServiceException object if execution of method is failed.
+     */
+    public int getClientsCount() throws ServiceException {
+        long currentTime = System.currentTimeMillis();
+        boolean isExpired = currentTime >= clientsCountExpirationTime;
+        if (!isExpired) {
+            return clientsCount;
+        }
 
-            return clients;
+        // Only one thread refreshes expired number, others use the previous one if it was already counted.
+        boolean isRefresher = isClientsCountRefreshing.compareAndSet(false, true);
+        if (!isRefresher && isClientsCountLoaded) {
+            return clientsCount;
+        }
+
+        try (ConnectionManager connectionManager = new ConnectionManager()) {
+            UserDAOImpl userDAO = new UserDAOImpl(connectionManager.getConnection());
+
+            clientsCount = userDAO.selectClientsCount();
+            isClientsCountLoaded = true;
+            clientsCountExpirationTime = currentTime + CLIENTS_COUNT_REFRESH_PERIOD;
+
+            return clientsCount;
         } catch (DAOException exception) {
-            throw new ServiceException("Exception during find all clients by pages operation.", exception);
+            throw new ServiceException("Exception during get clients count operation.", exception);
+        } finally {
+            if (isRefresher) {
+                isClientsCountRefreshing.set(false);
+            }
         }
     }
 
@@ -26,6 +26,27 @@ import static by.epam.gym.utils.MessageManager.NONE_MESSAGE_KEY;
  */
 public class Controller extends HttpServlet {
 
+    private CommandFactory commandFactory;
+
+    /**
+     * This method initializes controller and builds routing table of commands once for all requests.
+     *
+     * @throws ServletException object if execution of method is failed.
+     */
+    @Override
+    public void init() throws ServletException {
+        commandFactory = new CommandFactory();
+        commandFactory.register();
+    }
+
+    /**
+     * This method destroys controller.
+     */
+    @Override
+    public void destroy() {
+        commandFactory.unregister();
+    }
+
     /**
      * Get method.
      *
@@ -54,8 +75,7 @@ public class Controller extends HttpServlet {
 
     private void processRequest(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
         Page page;
-        CommandFactory factory = new CommandFactory();
-        ActionCommand command = factory.defineCommand(request);
+        ActionCommand command = commandFactory.defineCommand(request);
         page = command.execute(request);
 
         boolean isRedirect = page.isRedirect();
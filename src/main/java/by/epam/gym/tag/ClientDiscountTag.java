@@ -2,19 +2,34 @@ package by.epam.gym.tag;
 
 import by.epam.gym.exceptions.ServiceException;
 import by.epam.gym.service.DiscountService;
+import org.apache.log4j.Logger;
 
+import javax.servlet.ServletRequest;
 import javax.servlet.jsp.JspException;
 import javax.servlet.jsp.JspWriter;
 import javax.servlet.jsp.tagext.TagSupport;
 import java.io.IOException;
+import java.util.Map;
+
+import static by.epam.gym.commands.ActionCommand.DISCOUNTS_ATTRIBUTE;
 
 /**
  * Class describes information tag.
+ * <p>
+ * Discount is taken from request attribute with discounts of all clients on the page, if command has set it,
+ * so list of clients is rendered without query for every client. Otherwise discount is read by query, and
+ * the second such query in one request is logged, because command of that page should set discounts.
  *
  * @author Eugene Makarenko
  */
 public class ClientDiscountTag extends TagSupport {
 
+    private static final Logger LOGGER = Logger.getLogger(ClientDiscountTag.class);
+
+    private static final String DISCOUNT_FORMAT = "%d%%):";
+    private static final String DISCOUNT_QUERIES_COUNT_ATTRIBUTE = "discountQueriesCount";
+    private static final int MAX_DISCOUNT_QUERIES_COUNT = 1;
+
     private String id;
 
     /**
@@ -35,14 +50,37 @@ public class ClientDiscountTag extends TagSupport {
     @Override
     public int doStartTag() throws JspException {
         try {
-            DiscountService discountService = new DiscountService();
             int clientId = Integer.parseInt(id);
-            int discount = discountService.getDiscount(clientId);
+            int discount = findDiscount(clientId);
             JspWriter jspWriter = pageContext.getOut();
-            jspWriter.write(String.format("%d%%):", discount));
+            jspWriter.write(String.format(DISCOUNT_FORMAT, discount));
         } catch (IOException | ServiceException exception) {
             throw new JspException("Menu tag failed.",exception);
         }
         return SKIP_BODY;
     }
+
+    private int findDiscount(int clientId) throws ServiceException {
+        ServletRequest request = pageContext.getRequest();
+        Object discounts = request.getAttribute(DISCOUNTS_ATTRIBUTE);
+
+        if (discounts instanceof Map) {
+            Object discount = ((Map<?, ?>) discounts).get(clientId);
+            if (discount instanceof Integer) {
+                return (Integer) discount;
+            }
+        }
+
+        Object queriesCountValue = request.getAttribute(DISCOUNT_QUERIES_COUNT_ATTRIBUTE);
+        int queriesCount = queriesCountValue instanceof Integer ? (Integer) queriesCountValue + 1 : 1;
+        request.setAttribute(DISCOUNT_QUERIES_COUNT_ATTRIBUTE, queriesCount);
+
+        if (queriesCount == MAX_DISCOUNT_QUERIES_COUNT + 1) {
+            LOGGER.warn(String.format("Discounts are read by query for every client, %s attribute isn't set.", DISCOUNTS_ATTRIBUTE));
+        }
+
+        DiscountService discountService = new DiscountService();
+
+        return discountService.getDiscount(clientId);
+    }
 }
@@ -0,0 +1,57 @@
+package by.epam.gym.tag;
+
+import by.epam.gym.entities.exercise.Exercise;
+import by.epam.gym.exceptions.ServiceException;
+import by.epam.gym.service.ExerciseService;
+
+import javax.servlet.jsp.JspException;
+import javax.servlet.jsp.tagext.TagSupport;
+import java.util.List;
+
+/**
+ * Class describes tag, that exposes shared catalogue of exercises to page, so it isn't kept in every session.
+ *
+ * @author Eugene Makarenko
+ * @see by.epam.gym.service.ExerciseCatalogue
+ */
+public class ExerciseCatalogueTag extends TagSupport {
+
+    private String var;
+
+    /**
+     * Sets name of page attribute with exercises.
+     *
+     * @param var the name of page attribute.
+     */
+    public void setVar(String var) {
+        this.var = var;
+    }
+
+    /**
+     * This method starts tag.
+     *
+     * @return int constant SKIP_BODY.
+     * @throws JspException object if execution of method is failed.
+     */
+    @Override
+    public int doStartTag() throws JspException {
+        try {
+            ExerciseService exerciseService = new ExerciseService();
+            List<Exercise> exercises = exerciseService.findAllExercisesIdAndName();
+
+            pageContext.setAttribute(var, exercises);
+        } catch (ServiceException exception) {
+            throw new JspException("Exercise catalogue tag failed.", exception);
+        }
+        return SKIP_BODY;
+    }
+
+    /**
+     * This method releases tag state.
+     */
+    @Override
+    public void release() {
+        super.release();
+        var = null;
+    }
+}
@@ -0,0 +1,73 @@
+package by.epam.gym.tag;
+
+import by.epam.gym.entities.TrainingProgramDraft;
+import by.epam.gym.entities.exercise.Exercise;
+import by.epam.gym.exceptions.ServiceException;
+import by.epam.gym.service.ExerciseService;
+
+import javax.servlet.http.HttpSession;
+import javax.servlet.jsp.JspException;
+import javax.servlet.jsp.tagext.TagSupport;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static by.epam.gym.commands.ActionCommand.TRAINING_PROGRAM_DRAFT_ATTRIBUTE;
+
+/**
+ * Class describes tag, that exposes days and exercises of training program draft from session to page.
+ * <p>
+ * Session keeps only ids and counts of exercises, so names, levels and descriptions are taken from catalogue
+ * of exercises when page is rendered.
+ *
+ * @author Eugene Makarenko
+ * @see TrainingProgramDraft
+ * @see by.epam.gym.service.ExerciseCatalogue
+ */
+public class TrainingProgramDaysTag extends TagSupport {
+
+    private String var;
+
+    /**
+     * Sets name of page attribute with days and exercises.
+     *
+     * @param var the name of page attribute.
+     */
+    public void setVar(String var) {
+        this.var = var;
+    }
+
+    /**
+     * This method starts tag.
+     *
+     * @return int constant SKIP_BODY.
+     * @throws JspException object if execution of method is failed.
+     */
+    @Override
+    public int doStartTag() throws JspException {
+        try {
+            Map<Integer, List<Exercise>> daysAndExercises = Collections.emptyMap();
+
+            HttpSession session = pageContext.getSession();
+            TrainingProgramDraft trainingProgramDraft = session == null ? null : (TrainingProgramDraft) session.getAttribute(TRAINING_PROGRAM_DRAFT_ATTRIBUTE);
+            if (trainingProgramDraft != null) {
+                ExerciseService exerciseService = new ExerciseService();
+                daysAndExercises = exerciseService.findExercisesOfTrainingProgramDraft(trainingProgramDraft);
+            }
+
+            pageContext.setAttribute(var, daysAndExercises);
+        } catch (ServiceException exception) {
+            throw new JspException("Training program days tag failed.", exception);
+        }
+        return SKIP_BODY;
+    }
+
+    /**
+     * This method releases tag state.
+     */
+    @Override
+    public void release() {
+        super.release();
+        var = null;
+    }
+}
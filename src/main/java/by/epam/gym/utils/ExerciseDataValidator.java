@@ -4,8 +4,6 @@ package by.epam.gym.utils;
 import by.epam.gym.entities.exercise.Exercise;
 
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static by.epam.gym.entities.exercise.ExerciseDifficultyLevel.*;
 
@@ -17,9 +15,6 @@ import static by.epam.gym.entities.exercise.ExerciseDifficultyLevel.*;
  */
 public class ExerciseDataValidator {
 
-    private static final String EXERCISE_NAME_PATTERN = "[A-Za-zА-Яа-я0-9., \\-]*";
-    private static final String EXERCISE_DESCRIPTION_PATTERN = ".*<.*>+.*";
-
     private static final int MAXIMUM_EXERCISE_COUNT = 15;
 
     private static final int MINIMUM_SETS_COUNT = 1;
@@ -50,7 +45,21 @@ public class ExerciseDataValidator {
      * @return true if count is valid and false otherwise.
      */
     public boolean checkExerciseCountDuringAddOperation(List<Exercise> exercises, int setsCount, int repeatsCount) {
-        return exercises.size() < MAXIMUM_EXERCISE_COUNT
+        int exercisesCount = exercises.size();
+
+        return checkExerciseCountDuringAddOperation(exercisesCount, setsCount, repeatsCount);
+    }
+
+    /**
+     * This method checks exercise's count during add operation.
+     *
+     * @param exercisesCount the count of exercises per day.
+     * @param setsCount      the exercise's sets count.
+     * @param repeatsCount   the exercise's repeats count.
+     * @return true if count is valid and false otherwise.
+     */
+    public boolean checkExerciseCountDuringAddOperation(int exercisesCount, int setsCount, int repeatsCount) {
+        return exercisesCount < MAXIMUM_EXERCISE_COUNT
                 && setsCount >= MINIMUM_SETS_COUNT
                 && repeatsCount >= MINIMUM_REPEATS_COUNT;
     }
@@ -103,10 +112,7 @@ public class ExerciseDataValidator {
             return false;
         }
 
-        Pattern pattern = Pattern.compile(EXERCISE_NAME_PATTERN);
-        Matcher matcher = pattern.matcher(name);
-
-        return matcher.matches();
+        return TextMatcher.isExerciseName(name);
     }
 
     private boolean checkDescription(String description) {
@@ -116,10 +122,8 @@ public class ExerciseDataValidator {
         if (description.isEmpty()) {
             return false;
         }
-        Pattern pattern = Pattern.compile(EXERCISE_DESCRIPTION_PATTERN);
-        Matcher matcher = pattern.matcher(description);
 
-        return !matcher.matches();
+        return !TextMatcher.containsTag(description);
     }
 
 }
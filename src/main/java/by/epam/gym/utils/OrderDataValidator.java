@@ -2,8 +2,6 @@ package by.epam.gym.utils;
 
 import java.sql.Date;
 import java.time.LocalDate;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static by.epam.gym.entities.order.OrderDurationType.*;
 
@@ -18,8 +16,6 @@ public class OrderDataValidator {
     private static final String NOT_NEED_TRAINER_VALUE = "0";
     private static final String NEED_TRAINER_VALUE = "1";
 
-    private static final String ORDER_FEEDBACK_PATTERN = ".*<.*>+.*";
-
     /**
      * This method checks input order's data.
      *
@@ -47,10 +43,8 @@ public class OrderDataValidator {
         if (feedback.isEmpty()) {
             return false;
         }
-        Pattern pattern = Pattern.compile(ORDER_FEEDBACK_PATTERN);
-        Matcher matcher = pattern.matcher(feedback);
 
-        return !matcher.matches();
+        return !TextMatcher.containsTag(feedback);
     }
 
     private boolean checkOrderPurchaseDate(String dateValue) {
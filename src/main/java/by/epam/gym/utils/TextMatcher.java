@@ -0,0 +1,144 @@
+package by.epam.gym.utils;
+
+/**
+ * Util class with hand-written matchers for patterns of data validators.
+ * <p>
+ * Matchers walk the string once by index and don't create Pattern, Matcher or any other object,
+ * so validation of request parameters allocates nothing.
+ *
+ * @author Eugene Makarenko
+ * @see UserDataValidator
+ * @see ExerciseDataValidator
+ * @see OrderDataValidator
+ * @see TrainingProgramDataValidator
+ */
+public final class TextMatcher {
+
+    private static final char FIRST_CYRILLIC_LETTER = 'А';
+    private static final char LAST_CYRILLIC_LETTER = 'я';
+
+    private static final char TAG_START = '<';
+    private static final char TAG_END = '>';
+
+    private TextMatcher() {
+    }
+
+    /**
+     * This method checks that data consists of latin letters, digits and underscores only.
+     * Same as pattern "[a-zA-Z0-9_]{minLength,}".
+     *
+     * @param data      the data.
+     * @param minLength the min length of data.
+     * @return true if data matches and false otherwise.
+     */
+    public static boolean isWord(String data, int minLength) {
+        int length = data.length();
+        if (length < minLength) {
+            return false;
+        }
+
+        for (int index = 0; index < length; index++) {
+            char symbol = data.charAt(index);
+            if (!isLatinLetter(symbol) && !isDigit(symbol) && symbol != '_') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * This method checks that data is a name of latin or cyrillic letters.
+     * Same as pattern "[A-Za-zА-Яа-я]+".
+     *
+     * @param data the data.
+     * @return true if data matches and false otherwise.
+     */
+    public static boolean isName(String data) {
+        int length = data.length();
+
+        return length > 0 && findNameEnd(data, 0) == length;
+    }
+
+    /**
+     * This method checks that data is first name and last name separated by one whitespace.
+     * Same as pattern "[A-Za-zА-Яа-я]+\s[A-Za-zА-Яа-я]+".
+     *
+     * @param data the data.
+     * @return true if data matches and false otherwise.
+     */
+    public static boolean isFullName(String data) {
+        int length = data.length();
+
+        int firstNameEnd = findNameEnd(data, 0);
+        if (firstNameEnd == 0 || firstNameEnd == length || !isWhitespace(data.charAt(firstNameEnd))) {
+            return false;
+        }
+
+        int lastNameStart = firstNameEnd + 1;
+        int lastNameEnd = findNameEnd(data, lastNameStart);
+
+        return lastNameEnd > lastNameStart && lastNameEnd == length;
+    }
+
+    /**
+     * This method checks that data consists of letters, digits, dots, commas, spaces and hyphens only.
+     * Same as pattern "[A-Za-zА-Яа-я0-9., \-]*".
+     *
+     * @param data the data.
+     * @return true if data matches and false otherwise.
+     */
+    public static boolean isExerciseName(String data) {
+        int length = data.length();
+
+        for (int index = 0; index < length; index++) {
+            char symbol = data.charAt(index);
+            boolean isAllowed = isLatinLetter(symbol) || isCyrillicLetter(symbol) || isDigit(symbol)
+                    || symbol == '.' || symbol == ',' || symbol == ' ' || symbol == '-';
+            if (!isAllowed) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * This method checks that data contains markup, that is '<' followed by '>'.
+     *
+     * @param data the data.
+     * @return true if data contains markup and false otherwise.
+     */
+    public static boolean containsTag(String data) {
+        int tagStartIndex = data.indexOf(TAG_START);
+
+        return tagStartIndex >= 0 && data.indexOf(TAG_END, tagStartIndex + 1) > 0;
+    }
+
+    private static int findNameEnd(String data, int startIndex) {
+        int index = startIndex;
+        int length = data.length();
+
+        while (index < length && (isLatinLetter(data.charAt(index)) || isCyrillicLetter(data.charAt(index)))) {
+            index++;
+        }
+
+        return index;
+    }
+
+    private static boolean isLatinLetter(char symbol) {
+        return (symbol >= 'a' && symbol <= 'z') || (symbol >= 'A' && symbol <= 'Z');
+    }
+
+    private static boolean isCyrillicLetter(char symbol) {
+        return symbol >= FIRST_CYRILLIC_LETTER && symbol <= LAST_CYRILLIC_LETTER;
+    }
+
+    private static boolean isDigit(char symbol) {
+        return symbol >= '0' && symbol <= '9';
+    }
+
+    private static boolean isWhitespace(char symbol) {
+        return symbol == ' ' || symbol == '\t' || symbol == '\n' || symbol == '\u000B' || symbol == '\f' || symbol == '\r';
+    }
+}
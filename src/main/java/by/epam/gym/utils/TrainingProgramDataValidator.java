@@ -8,8 +8,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Util class to check training program data during creation and edition.
@@ -27,8 +25,6 @@ public class TrainingProgramDataValidator {
 
     private static final String NONE_ID_VALUE = "0";
 
-    private static String DIET_PATTERN = ".*<.*>+.*";
-
     /**
      * This method checks exercises count per day.
      *
@@ -77,6 +73,16 @@ public class TrainingProgramDataValidator {
     public boolean checkDaysCountForAddOperation(TreeMap<Integer, List<Exercise>> daysAndExercises) {
         int currentDaysCount = daysAndExercises.size();
 
+        return checkDaysCountForAddOperation(currentDaysCount);
+    }
+
+    /**
+     * This method checks max days count in training program during add operation.
+     *
+     * @param currentDaysCount the current days count.
+     * @return true if data is valid and false otherwise.
+     */
+    public boolean checkDaysCountForAddOperation(int currentDaysCount) {
         return currentDaysCount < MAXIMUM_DAYS_PER_WEEK;
     }
 
@@ -89,6 +95,16 @@ public class TrainingProgramDataValidator {
     public boolean checkDaysCountForDeleteOperation(TreeMap<Integer, List<Exercise>> daysAndExercises) {
         int currentDaysCount = daysAndExercises.size();
 
+        return checkDaysCountForDeleteOperation(currentDaysCount);
+    }
+
+    /**
+     * This method checks min days count in training program during delete operation.
+     *
+     * @param currentDaysCount the current days count.
+     * @return true if data is valid and false otherwise.
+     */
+    public boolean checkDaysCountForDeleteOperation(int currentDaysCount) {
         return currentDaysCount > MINIMAL_DAYS_COUNT_IN_TRAINING_PROGRAM;
     }
 
@@ -103,11 +119,8 @@ public class TrainingProgramDataValidator {
         if (diet.isEmpty()) {
             return false;
         }
-        Pattern pattern = Pattern.compile(DIET_PATTERN);
-        Matcher matcher = pattern.matcher(diet);
-
-        return !matcher.matches();
 
+        return !TextMatcher.containsTag(diet);
     }
 
     private boolean checkTrainingProgramDate(String startDateValue, String endDateValue) {
@@ -1,8 +1,5 @@
 package by.epam.gym.utils;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 /**
  * Util class for user data validation.
  *
@@ -11,10 +8,8 @@ import java.util.regex.Pattern;
  */
 public class UserDataValidator {
 
-    private static final String LOGIN_PATTERN = "([a-zA-Z0-9_]+){6,}";
-    private static final String PASSWORD_PATTERN = "([a-zA-Z0-9_]+){4,}";
-    private static final String NAME_PATTERN = "[A-Za-zА-Яа-я]+";
-    private static final String SPACE_PATTERN = "\\s";
+    private static final int MIN_LOGIN_LENGTH = 6;
+    private static final int MIN_PASSWORD_LENGTH = 4;
 
     /**
      * Check user registration data for errors.
@@ -39,10 +34,10 @@ public class UserDataValidator {
             return false;
         }
 
-        boolean isLoginValid = matchPattern(login, LOGIN_PATTERN);
-        boolean isPasswordValid = matchPattern(password, PASSWORD_PATTERN);
-        boolean isFirstNameValid = matchPattern(firstName, NAME_PATTERN);
-        boolean isLastNameValid = matchPattern(lastName, NAME_PATTERN);
+        boolean isLoginValid = TextMatcher.isWord(login, MIN_LOGIN_LENGTH);
+        boolean isPasswordValid = TextMatcher.isWord(password, MIN_PASSWORD_LENGTH);
+        boolean isFirstNameValid = TextMatcher.isName(firstName);
+        boolean isLastNameValid = TextMatcher.isName(lastName);
 
         return isLoginValid && isFirstNameValid && isPasswordValid && isLastNameValid;
     }
@@ -58,16 +53,7 @@ public class UserDataValidator {
             return false;
         }
 
-        String pattern = NAME_PATTERN + SPACE_PATTERN + NAME_PATTERN;
-
-        return matchPattern(name, pattern);
-    }
-
-    private boolean matchPattern(String data, String currentPattern) {
-        Pattern pattern = Pattern.compile(currentPattern);
-        Matcher matcher = pattern.matcher(data);
-
-        return matcher.matches();
+        return TextMatcher.isFullName(name);
     }
 
 }
\ No newline at end of file
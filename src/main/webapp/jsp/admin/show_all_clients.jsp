@@ -19,24 +19,15 @@
 <tag:clientDescription clients="${requestScope.list}" role="${sessionScope.user.userRole}"/>
 <div class="navigation_buttons">
     <ul>
-        <c:if test="${requestScope.pageIndex != 1}">
+        <c:if test="${requestScope.pageIndex > 1 and not empty requestScope.firstId}">
             <li>
-                <a href="controller?command=admin_show_all_clients&page=${requestScope.pageIndex - 1}">${pageScope.previous}</a>
+                <a href="controller?command=admin_show_all_clients&page=${requestScope.pageIndex - 1}&before_id=${requestScope.firstId}">${pageScope.previous}</a>
             </li>
         </c:if>
-        <c:forEach begin="1" end="${requestScope.numberOfPages}" var="i">
+        <li>${requestScope.pageIndex} / ${requestScope.numberOfPages}</li>
+        <c:if test="${requestScope.pageIndex < requestScope.numberOfPages and not empty requestScope.lastId}">
             <li>
-                <c:choose>
-                    <c:when test="${requestScope.pageIndex eq i}">${i}</c:when>
-                    <c:otherwise>
-                        <a href="controller?command=admin_show_all_clients&page=${i}">${i}</a>
-                    </c:otherwise>
-                </c:choose>
-            </li>
-        </c:forEach>
-        <c:if test="${requestScope.pageIndex < requestScope.numberOfPages}">
-            <li>
-                <a href="controller?command=admin_show_all_clients&page=${requestScope.pageIndex + 1}">${pageScope.next}</a>
+                <a href="controller?command=admin_show_all_clients&page=${requestScope.pageIndex + 1}&after_id=${requestScope.lastId}">${pageScope.next}</a>
             </li>
         </c:if>
     </ul>
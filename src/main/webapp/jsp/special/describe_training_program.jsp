@@ -1,6 +1,7 @@
 <%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core" %>
 <%@ taglib prefix="tag" tagdir="/WEB-INF/tags" %>
 <%@ taglib prefix="fmt" uri="http://java.sun.com/jsp/jstl/fmt" %>
+<%@ taglib prefix="ctg" uri="customtags" %>
 <%@ taglib prefix="fnt" uri="http://java.sun.com/jsp/jstl/fmt" %>
 <%@ page contentType="text/html;charset=UTF-8" %>
 
@@ -24,6 +25,8 @@
     <fmt:message key="exercise.pro" var="pro"/>
 </fmt:bundle>
 
+<ctg:training_program_days var="daysAndExercises"/>
+
 <html>
 <head>
     <link rel="stylesheet" href="${pageContext.request.contextPath}/css/main.css">
@@ -37,7 +40,7 @@
         <h1>${pageScope.head}</h1>
     </div>
     <ul>
-        <c:forEach var="day" items="${sessionScope.daysAndExercises}">
+        <c:forEach var="day" items="${pageScope.daysAndExercises}">
             <li class="training_program_description_li">${pageScope.day_message} ${day.key}
                 <ol>
                     <c:forEach var="exercise" items="${day.value}">
@@ -1,6 +1,7 @@
 <%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core" %>
 <%@ taglib prefix="tag" tagdir="/WEB-INF/tags" %>
 <%@ taglib prefix="fmt" uri="http://java.sun.com/jsp/jstl/fmt" %>
+<%@ taglib prefix="ctg" uri="customtags" %>
 <%@ page contentType="text/html;charset=UTF-8" %>
 
 <fmt:bundle basename="page_content">
@@ -27,6 +28,9 @@
     <fmt:message key="title.repeats_count" var="title_repeats"/>
 </fmt:bundle>
 
+<ctg:training_program_days var="daysAndExercises"/>
+<ctg:exercise_catalogue var="exercises"/>
+
 <html>
 <head>
     <link rel="stylesheet" href="${pageContext.request.contextPath}/css/main.css">
@@ -36,7 +40,7 @@
 <tag:userMenu/>
 <p class="error">${requestScope.message}</p>
 <div class="edit_training_program_wrapper">
-    <c:forEach var="day" items="${sessionScope.daysAndExercises}">
+    <c:forEach var="day" items="${pageScope.daysAndExercises}">
         <div class="day_wrapper">
                 ${pageScope.day_message} ${day.key}
             <ol>
@@ -99,7 +103,7 @@
                     <input type="hidden" name="command" value="special_add_exercise_to_training_program"/>
                     <input type="hidden" name="day_number" value="${day.key}"/>
                     <label>${pageScope.name} <select name="exercise_id">
-                        <c:forEach var="chooseExercise" items="${sessionScope.exercises}">
+                        <c:forEach var="chooseExercise" items="${pageScope.exercises}">
                             <option value="${chooseExercise.id}"
                                     title=" ${chooseExercise.description}">${chooseExercise.name}</option>
                         </c:forEach>
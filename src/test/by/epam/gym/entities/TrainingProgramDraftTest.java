@@ -0,0 +1,149 @@
+package by.epam.gym.entities;
+
+import by.epam.gym.entities.exercise.Exercise;
+import com.tngtech.java.junit.dataprovider.DataProvider;
+import com.tngtech.java.junit.dataprovider.DataProviderRunner;
+import com.tngtech.java.junit.dataprovider.UseDataProvider;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+import java.util.TreeMap;
+
+@RunWith(DataProviderRunner.class)
+public class TrainingProgramDraftTest {
+
+    private static final int DAYS_COUNT = 3;
+    private static final int FIRST_DAY = 1;
+    private static final int SECOND_DAY = 2;
+    private static final int THIRD_DAY = 3;
+
+    private static final int SQUAT_ID = 1;
+    private static final int DEAD_LIFT_ID = 2;
+    private static final int BENCH_PRESS_ID = 3;
+    private static final int PULL_UP_ID = 4;
+    private static final int UNKNOWN_ID = 10;
+
+    private static final int SETS_COUNT = 4;
+    private static final int REPEATS_COUNT = 10;
+    private static final int CHANGED_SETS_COUNT = 5;
+    private static final int CHANGED_REPEATS_COUNT = 8;
+
+    private static final int EXERCISES_COUNT_FOR_GROWTH = 40;
+
+    private TrainingProgramDraft trainingProgramDraft;
+
+    @Before
+    public void setTrainingProgramDraft() {
+        trainingProgramDraft = new TrainingProgramDraft(DAYS_COUNT);
+        trainingProgramDraft.addExercise(SECOND_DAY, BENCH_PRESS_ID, SETS_COUNT, REPEATS_COUNT);
+        trainingProgramDraft.addExercise(FIRST_DAY, SQUAT_ID, SETS_COUNT, REPEATS_COUNT);
+        trainingProgramDraft.addExercise(FIRST_DAY, DEAD_LIFT_ID, SETS_COUNT, REPEATS_COUNT);
+        trainingProgramDraft.addExercise(THIRD_DAY, PULL_UP_ID, SETS_COUNT, REPEATS_COUNT);
+    }
+
+    @DataProvider
+    public static Object[][] notValidDayNumbers() {
+        return new Object[][]{
+                {0},
+                {-1},
+                {4},
+                {100}
+        };
+    }
+
+    @Test
+    public void shouldExercisesBeOrderedByDayAndExecutionNumber() {
+        TreeMap<Integer, List<Exercise>> daysAndExercises = trainingProgramDraft.getDaysAndExercises();
+
+        Assert.assertEquals(DAYS_COUNT, daysAndExercises.size());
+        assertExercises(daysAndExercises.get(FIRST_DAY), FIRST_DAY, SQUAT_ID, DEAD_LIFT_ID);
+        assertExercises(daysAndExercises.get(SECOND_DAY), SECOND_DAY, BENCH_PRESS_ID);
+        assertExercises(daysAndExercises.get(THIRD_DAY), THIRD_DAY, PULL_UP_ID);
+    }
+
+    @Test
+    @UseDataProvider("notValidDayNumbers")
+    public void shouldAddExerciseToMissingDayFail(int dayNumber) {
+        boolean actualResult = trainingProgramDraft.addExercise(dayNumber, UNKNOWN_ID, SETS_COUNT, REPEATS_COUNT);
+
+        Assert.assertFalse(actualResult);
+        Assert.assertEquals(DAYS_COUNT, trainingProgramDraft.getDaysAndExercises().size());
+    }
+
+    @Test
+    @UseDataProvider("notValidDayNumbers")
+    public void shouldDeleteMissingDayFail(int dayNumber) {
+        boolean actualResult = trainingProgramDraft.deleteDay(dayNumber);
+
+        Assert.assertFalse(actualResult);
+        Assert.assertEquals(DAYS_COUNT, trainingProgramDraft.getDaysCount());
+    }
+
+    @Test
+    public void shouldExerciseBeEdited() {
+        boolean actualResult = trainingProgramDraft.editExercise(FIRST_DAY, DEAD_LIFT_ID, CHANGED_SETS_COUNT, CHANGED_REPEATS_COUNT);
+
+        Assert.assertTrue(actualResult);
+        Exercise exercise = trainingProgramDraft.getDaysAndExercises().get(FIRST_DAY).get(1);
+        Assert.assertEquals(CHANGED_SETS_COUNT, exercise.getSetsCount());
+        Assert.assertEquals(CHANGED_REPEATS_COUNT, exercise.getRepeatsCount());
+    }
+
+    @Test
+    public void shouldEditOfMissingExerciseFail() {
+        boolean actualResult = trainingProgramDraft.editExercise(SECOND_DAY, SQUAT_ID, CHANGED_SETS_COUNT, CHANGED_REPEATS_COUNT);
+
+        Assert.assertFalse(actualResult);
+    }
+
+    @Test
+    public void shouldNextExercisesMoveUpAfterDelete() {
+        boolean actualResult = trainingProgramDraft.deleteExercise(FIRST_DAY, SQUAT_ID);
+
+        Assert.assertTrue(actualResult);
+        Assert.assertFalse(trainingProgramDraft.containsExercise(FIRST_DAY, SQUAT_ID));
+        assertExercises(trainingProgramDraft.getDaysAndExercises().get(FIRST_DAY), FIRST_DAY, DEAD_LIFT_ID);
+    }
+
+    @Test
+    public void shouldNextDaysMoveUpAfterDayDelete() {
+        boolean actualResult = trainingProgramDraft.deleteDay(SECOND_DAY);
+
+        Assert.assertTrue(actualResult);
+        TreeMap<Integer, List<Exercise>> daysAndExercises = trainingProgramDraft.getDaysAndExercises();
+        Assert.assertEquals(DAYS_COUNT - 1, daysAndExercises.size());
+        assertExercises(daysAndExercises.get(FIRST_DAY), FIRST_DAY, SQUAT_ID, DEAD_LIFT_ID);
+        assertExercises(daysAndExercises.get(SECOND_DAY), SECOND_DAY, PULL_UP_ID);
+    }
+
+    @Test
+    public void shouldAddedDayBeEmpty() {
+        int dayNumber = trainingProgramDraft.addDay();
+
+        Assert.assertEquals(DAYS_COUNT + 1, dayNumber);
+        Assert.assertTrue(trainingProgramDraft.getDaysAndExercises().get(dayNumber).isEmpty());
+    }
+
+    @Test
+    public void shouldDraftGrowForManyExercises() {
+        for (int exerciseId = 1; exerciseId <= EXERCISES_COUNT_FOR_GROWTH; exerciseId++) {
+            trainingProgramDraft.addExercise(THIRD_DAY, UNKNOWN_ID + exerciseId, SETS_COUNT, REPEATS_COUNT);
+        }
+
+        Assert.assertEquals(EXERCISES_COUNT_FOR_GROWTH + 1, trainingProgramDraft.getExercisesCount(THIRD_DAY));
+        assertExercises(trainingProgramDraft.getDaysAndExercises().get(FIRST_DAY), FIRST_DAY, SQUAT_ID, DEAD_LIFT_ID);
+    }
+
+    private void assertExercises(List<Exercise> exercises, int dayNumber, int... exercisesIds) {
+        Assert.assertEquals(exercisesIds.length, exercises.size());
+        for (int index = 0; index < exercisesIds.length; index++) {
+            Exercise exercise = exercises.get(index);
+            Assert.assertEquals(exercisesIds[index], exercise.getId());
+            Assert.assertEquals(dayNumber, exercise.getDayNumber());
+            Assert.assertEquals(index + 1, exercise.getExecutionNumber());
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package by.epam.gym.service;
+
+import by.epam.gym.entities.exercise.Exercise;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class ExercisesDiffTest {
+
+    private static final int FIRST_DAY = 1;
+    private static final int SECOND_DAY = 2;
+    private static final int THIRD_DAY = 3;
+
+    private static final int SQUAT_ID = 1;
+    private static final int DEAD_LIFT_ID = 2;
+    private static final int BENCH_PRESS_ID = 3;
+    private static final int PULL_UP_ID = 4;
+
+    private static final int SETS_COUNT = 4;
+    private static final int REPEATS_COUNT = 10;
+    private static final int CHANGED_SETS_COUNT = 5;
+    private static final int CHANGED_REPEATS_COUNT = 8;
+
+    private Map<Integer, List<Exercise>> savedDaysAndExercises;
+    private Map<Integer, List<Exercise>> editedDaysAndExercises;
+
+    @Before
+    public void setDaysAndExercises() {
+        savedDaysAndExercises = new TreeMap<>();
+        savedDaysAndExercises.put(FIRST_DAY, createExercises(FIRST_DAY, SQUAT_ID, DEAD_LIFT_ID));
+        savedDaysAndExercises.put(SECOND_DAY, createExercises(SECOND_DAY, BENCH_PRESS_ID));
+
+        editedDaysAndExercises = new TreeMap<>();
+        editedDaysAndExercises.put(FIRST_DAY, createExercises(FIRST_DAY, SQUAT_ID, DEAD_LIFT_ID));
+        editedDaysAndExercises.put(SECOND_DAY, createExercises(SECOND_DAY, BENCH_PRESS_ID));
+    }
+
+    @Test
+    public void shouldNotChangedExercisesBeSkipped() {
+        ExercisesDiff exercisesDiff = new ExercisesDiff(savedDaysAndExercises, editedDaysAndExercises);
+
+        Assert.assertTrue(exercisesDiff.getInsertedExercises().isEmpty());
+        Assert.assertTrue(exercisesDiff.getUpdatedExercises().isEmpty());
+        Assert.assertTrue(exercisesDiff.getDeletedExercises().isEmpty());
+    }
+
+    @Test
+    public void shouldAddedExercisesBeInserted() {
+        editedDaysAndExercises.get(SECOND_DAY).add(createExercise(SECOND_DAY, PULL_UP_ID, SETS_COUNT, REPEATS_COUNT));
+        editedDaysAndExercises.put(THIRD_DAY, createExercises(THIRD_DAY, SQUAT_ID));
+
+        ExercisesDiff exercisesDiff = new ExercisesDiff(savedDaysAndExercises, editedDaysAndExercises);
+
+        List<Exercise> insertedExercises = exercisesDiff.getInsertedExercises();
+        Assert.assertEquals(2, insertedExercises.size());
+        assertExercise(insertedExercises.get(0), SECOND_DAY, PULL_UP_ID, 2);
+        assertExercise(insertedExercises.get(1), THIRD_DAY, SQUAT_ID, 1);
+        Assert.assertTrue(exercisesDiff.getUpdatedExercises().isEmpty());
+        Assert.assertTrue(exercisesDiff.getDeletedExercises().isEmpty());
+    }
+
+    @Test
+    public void shouldRemovedExercisesBeDeleted() {
+        editedDaysAndExercises.get(FIRST_DAY).remove(1);
+        editedDaysAndExercises.remove(SECOND_DAY);
+
+        ExercisesDiff exercisesDiff = new ExercisesDiff(savedDaysAndExercises, editedDaysAndExercises);
+
+        List<Exercise> deletedExercises = exercisesDiff.getDeletedExercises();
+        Assert.assertEquals(2, deletedExercises.size());
+        Assert.assertTrue(containsExercise(deletedExercises, FIRST_DAY, DEAD_LIFT_ID));
+        Assert.assertTrue(containsExercise(deletedExercises, SECOND_DAY, BENCH_PRESS_ID));
+        Assert.assertTrue(exercisesDiff.getInsertedExercises().isEmpty());
+        Assert.assertTrue(exercisesDiff.getUpdatedExercises().isEmpty());
+    }
+
+    @Test
+    public void shouldChangedCountsBeUpdated() {
+        Exercise editedExercise = editedDaysAndExercises.get(SECOND_DAY).get(0);
+        editedExercise.setSetsCount(CHANGED_SETS_COUNT);
+        editedExercise.setRepeatsCount(CHANGED_REPEATS_COUNT);
+
+        ExercisesDiff exercisesDiff = new ExercisesDiff(savedDaysAndExercises, editedDaysAndExercises);
+
+        List<Exercise> updatedExercises = exercisesDiff.getUpdatedExercises();
+        Assert.assertEquals(1, updatedExercises.size());
+        Assert.assertEquals(CHANGED_SETS_COUNT, updatedExercises.get(0).getSetsCount());
+        Assert.assertEquals(CHANGED_REPEATS_COUNT, updatedExercises.get(0).getRepeatsCount());
+        Assert.assertTrue(exercisesDiff.getInsertedExercises().isEmpty());
+        Assert.assertTrue(exercisesDiff.getDeletedExercises().isEmpty());
+    }
+
+    @Test
+    public void shouldReorderedExercisesBeUpdated() {
+        editedDaysAndExercises.put(FIRST_DAY, createExercises(FIRST_DAY, DEAD_LIFT_ID, SQUAT_ID));
+
+        ExercisesDiff exercisesDiff = new ExercisesDiff(savedDaysAndExercises, editedDaysAndExercises);
+
+        List<Exercise> updatedExercises = exercisesDiff.getUpdatedExercises();
+        Assert.assertEquals(2, updatedExercises.size());
+        assertExercise(updatedExercises.get(0), FIRST_DAY, DEAD_LIFT_ID, 1);
+        assertExercise(updatedExercises.get(1), FIRST_DAY, SQUAT_ID, 2);
+    }
+
+    @Test
+    public void shouldExerciseMovedToAnotherDayBeReplaced() {
+        editedDaysAndExercises.get(FIRST_DAY).remove(0);
+        editedDaysAndExercises.get(SECOND_DAY).add(createExercise(SECOND_DAY, SQUAT_ID, SETS_COUNT, REPEATS_COUNT));
+
+        ExercisesDiff exercisesDiff = new ExercisesDiff(savedDaysAndExercises, editedDaysAndExercises);
+
+        List<Exercise> insertedExercises = exercisesDiff.getInsertedExercises();
+        Assert.assertEquals(1, insertedExercises.size());
+        assertExercise(insertedExercises.get(0), SECOND_DAY, SQUAT_ID, 2);
+        List<Exercise> deletedExercises = exercisesDiff.getDeletedExercises();
+        Assert.assertEquals(1, deletedExercises.size());
+        Assert.assertTrue(containsExercise(deletedExercises, FIRST_DAY, SQUAT_ID));
+        List<Exercise> updatedExercises = exercisesDiff.getUpdatedExercises();
+        Assert.assertEquals(1, updatedExercises.size());
+        assertExercise(updatedExercises.get(0), FIRST_DAY, DEAD_LIFT_ID, 1);
+    }
+
+    private List<Exercise> createExercises(int dayNumber, int... exercisesIds) {
+        List<Exercise> exercises = new ArrayList<>();
+        for (int index = 0; index < exercisesIds.length; index++) {
+            Exercise exercise = createExercise(dayNumber, exercisesIds[index], SETS_COUNT, REPEATS_COUNT);
+            exercise.setExecutionNumber(index + 1);
+            exercises.add(exercise);
+        }
+
+        return exercises;
+    }
+
+    private Exercise createExercise(int dayNumber, int exerciseId, int setsCount, int repeatsCount) {
+        Exercise exercise = new Exercise();
+        exercise.setId(exerciseId);
+        exercise.setDayNumber(dayNumber);
+        exercise.setSetsCount(setsCount);
+        exercise.setRepeatsCount(repeatsCount);
+
+        return exercise;
+    }
+
+    private boolean containsExercise(List<Exercise> exercises, int dayNumber, int exerciseId) {
+        for (Exercise exercise : exercises) {
+            if (exercise.getDayNumber() == dayNumber && exercise.getId() == exerciseId) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void assertExercise(Exercise exercise, int dayNumber, int exerciseId, int executionNumber) {
+        Assert.assertEquals(Arrays.asList(dayNumber, exerciseId, executionNumber),
+                Arrays.asList(exercise.getDayNumber(), exercise.getId(), exercise.getExecutionNumber()));
+    }
+}